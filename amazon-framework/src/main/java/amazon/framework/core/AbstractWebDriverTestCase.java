@@ -1,6 +1,14 @@
 package amazon.framework.core;
 
+import amazon.framework.util.DriverReaper;
 import amazon.framework.util.DriverSessionHolder;
+import amazon.framework.util.ExponentialBackoff;
+import amazon.framework.util.LocatorCache;
+import amazon.framework.util.SelfHealingElement;
+import amazon.framework.util.SessionLatencyModel;
+import amazon.framework.util.SessionWatchdog;
+import amazon.framework.util.SleepReport;
+import amazon.framework.util.WaitTelemetry;
 import com.google.common.base.Stopwatch;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -17,11 +25,13 @@ import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import static amazon.framework.util.DriverSessionHolder.getDriver;
@@ -29,15 +39,28 @@ import static amazon.framework.util.DriverSessionHolder.getDriver;
 public abstract class AbstractWebDriverTestCase {
 
 	private static final Log LOGGER = LogFactory.getLog(AbstractWebDriverTestCase.class);
+
+	public static final String HUB_URL_PROPERTY = "webdriver.hub.url";
+	public static final String HUB_ATTEMPTS_PROPERTY = "webdriver.hub.attempts";
 	private Instant testStartTime;
 
 	@Rule
 	public final TestName testName = new TestName();
 
 	static {
+		SessionWatchdog.getInstance().start();
+		// the hook runs on its own thread: quit every registered session, not only the one of the current thread
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 			try {
-				getDriver().quit();
+				SessionWatchdog.getInstance().shutdown();
+				WebDriverPool.getInstance().shutdown();
+				DriverReaper.getInstance().reapAllAndWait(DriverSessionHolder.getDriverSessions());
+				SessionCreationMetrics.logSummary();
+				WaitTelemetry.logSummary();
+				SleepReport.logSummary();
+				LocatorCache.logSummary();
+				SelfHealingElement.logSummary();
+				WaitTelemetry.save();
 			} catch (Throwable t) {
 				LOGGER.info("Shutdown hook failed", t);
 			}
@@ -57,7 +80,11 @@ public abstract class AbstractWebDriverTestCase {
 		LOGGER.debug(String.format("Instantiate a new browser '%s'", driverKind));
 
 		final WebDriver webDriver;
-		webDriver = driverKind.getInstance();
+		if (WebDriverPool.getInstance().isEnabled()) {
+			webDriver = WebDriverPool.getInstance().lease(driverKind);
+		} else {
+			webDriver = newWebDriver(driverKind);
+		}
 		DriverSessionHolder.setDriver(webDriver, getDriverSessionIdentifier(), driverKind);
 		return webDriver;
 	}
@@ -65,8 +92,24 @@ public abstract class AbstractWebDriverTestCase {
 	protected abstract String getDriverSessionIdentifier();
 
 	protected void quitDriver() {
+		releaseDriver();
+	}
+
+	/**
+	 * Give the browser of the current thread back to the {@link WebDriverPool}, or quit it when the pool is disabled.
+	 */
+	static void releaseDriver() {
 		try {
-			DriverSessionHolder.quitDriver();
+			if (WebDriverPool.getInstance().isEnabled()) {
+				if (DriverSessionHolder.getDriverSession().isHealthy()) {
+					// the pool resets the browser, or quits it if it is in an unexpected state
+					WebDriverPool.getInstance().giveBack(DriverSessionHolder.getDriverKind(), getDriver());
+				} else {
+					WebDriverPool.getInstance().discard(DriverSessionHolder.getDriverKind(), getDriver());
+				}
+			} else {
+				DriverSessionHolder.quitDriver();
+			}
 		} catch (final WebDriverException couldNotQuitWebDriver) {
 			// Could not quit web driver
 			LOGGER.warn("Could not quit driver", couldNotQuitWebDriver);
@@ -80,14 +123,9 @@ public abstract class AbstractWebDriverTestCase {
 		Firefox() {
 			@Override
 			public WebDriver getInstance() {
-				System.setProperty("webdriver.gecko.driver",
-						"C:\\selenium\\drivers\\geckodriver_win32\\geckodriver.exe");
-				final String date = new SimpleDateFormat("YYYY-MM-dd").format(new Date());
+				DriverBinaryResolver.resolve(this);
 				System.setProperty(FirefoxDriver.SystemProperty.DRIVER_USE_MARIONETTE,"true");
-				FirefoxOptions firefoxOptions = new FirefoxOptions();
-				firefoxOptions.setProfile(getProfile());
-				firefoxOptions.addPreference("dom.disable_beforeunload", true);
-				return new FirefoxDriver(firefoxOptions);
+				return new FirefoxDriver(getFirefoxOptions());
 			}
 
 			@Override
@@ -101,27 +139,56 @@ public abstract class AbstractWebDriverTestCase {
 				capabilities.setCapability(CapabilityType.HAS_NATIVE_EVENTS, false);
 				capabilities.setCapability(FirefoxDriver.PROFILE, getProfile());
 				capabilities.setCapability("TC", getClass().getSimpleName());
-				return capabilities;
+				return capabilities.merge(getFirefoxOptions());
 			}
 
 			@Override
 			public boolean isHeadless() {
-				return false;
+				return LaunchProfile.current().isHeadless();
+			}
+
+			/**
+			 * Preferences go to the shared profile template: preferences added to the options would be written in
+			 * the profile for each session.
+			 */
+			private FirefoxOptions getFirefoxOptions() {
+				final LaunchProfile launchProfile = LaunchProfile.current();
+				final FirefoxOptions firefoxOptions = new FirefoxOptions();
+				firefoxOptions.setProfile(getProfile());
+				firefoxOptions.setHeadless(launchProfile.isHeadless());
+				firefoxOptions.setPageLoadStrategy(launchProfile.getPageLoadStrategy());
+				final Dimension windowSize = launchProfile.getWindowSize();
+				if (windowSize != null) {
+					firefoxOptions.addArguments("--width=" + windowSize.getWidth(),
+							"--height=" + windowSize.getHeight());
+				}
+				return firefoxOptions;
 			}
 
 			private FirefoxProfile getProfile() {
-				final FirefoxProfile profile = new FirefoxProfile();
-				profile.setPreference("browser.download.folderList", 2);
-
-				final String date = new SimpleDateFormat("YYYY-MM-dd").format(new Date());
-				profile.setPreference("webdriver.log.browser.file",
-						"c:\\selenium\\logs\\firefox-browser-" + date + ".log");
-				profile.setPreference("webdriver.log.driver.file",
-						"c:\\selenium\\logs\\firefox-driver-" + date + ".log");
-				profile.setPreference("webdriver.log.file", "c:\\selenium\\logs\\wd-log-" + date + ".log");
-
-				System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, "c:\\selenium\\logs\\firefox-log-" + date + ".log");
-				return profile;
+				return FirefoxProfileTemplate.get(profile -> {
+					profile.setPreference("browser.download.folderList", 2);
+					profile.setPreference("dom.disable_beforeunload", true);
+
+					final String date = new SimpleDateFormat("YYYY-MM-dd").format(new Date());
+					profile.setPreference("webdriver.log.browser.file",
+							DriverBinaryResolver.getLogFile("firefox-browser-" + date + ".log"));
+					profile.setPreference("webdriver.log.driver.file",
+							DriverBinaryResolver.getLogFile("firefox-driver-" + date + ".log"));
+					profile.setPreference("webdriver.log.file", DriverBinaryResolver.getLogFile("wd-log-" + date + ".log"));
+
+					System.setProperty(FirefoxDriver.SystemProperty.BROWSER_LOGFILE, DriverBinaryResolver.getLogFile("firefox-log-" + date + ".log"));
+
+					if (LaunchProfile.current().isLowOverhead()) {
+						profile.setPreference("extensions.update.enabled", false);
+						profile.setPreference("app.update.enabled", false);
+						profile.setPreference("layers.acceleration.disabled", true);
+						profile.setPreference("network.prefetch-next", false);
+						profile.setPreference("browser.safebrowsing.malware.enabled", false);
+						profile.setPreference("browser.safebrowsing.phishing.enabled", false);
+						profile.setPreference("datareporting.healthreport.uploadEnabled", false);
+					}
+				});
 			}
 
 		},
@@ -129,7 +196,7 @@ public abstract class AbstractWebDriverTestCase {
 		IE() {
 			@Override
 			public WebDriver getInstance() {
-				System.setProperty("webdriver.ie.driver", "C:\\selenium\\drivers\\iedriver\\IEDriverServer.exe");
+				DriverBinaryResolver.resolve(this);
 				return new InternetExplorerDriver(getCapabilities());
 			}
 
@@ -137,11 +204,14 @@ public abstract class AbstractWebDriverTestCase {
 			public DesiredCapabilities getCapabilities() {
 				final DesiredCapabilities capabilities = DesiredCapabilities.internetExplorer();
 				capabilities.setJavascriptEnabled(true);
+				capabilities.setCapability(CapabilityType.PAGE_LOAD_STRATEGY,
+						LaunchProfile.current().getPageLoadStrategy().toString());
 				return capabilities;
 			}
 
 			@Override
 			public boolean isHeadless() {
+				// IE has no headless mode
 				return false;
 			}
 		},
@@ -149,27 +219,35 @@ public abstract class AbstractWebDriverTestCase {
 		Chrome() {
 			@Override
 			public WebDriver getInstance() {
-				System.setProperty("webdriver.chrome.driver",
-						"C:\\selenium\\drivers\\chromedriver_win32\\chromedriver93.exe");
-				System.setProperty("webdriver.chrome.logfile", "C:\\selenium\\logs\\chromedriver.log");
-				System.setProperty("webdriver.chrome.verboseLogging", "true");
+				DriverBinaryResolver.resolve(this);
 				return new ChromeDriver(getCapabilities());
 			}
 
 			@Override
 			public DesiredCapabilities getCapabilities() {
+				final LaunchProfile launchProfile = LaunchProfile.current();
 				final DesiredCapabilities capabilities = DesiredCapabilities.chrome();
 				final java.util.HashMap<String, Object> prefs = new java.util.HashMap<>();
 				final ChromeOptions options = new ChromeOptions();
 				options.addArguments("--disable-notifications");
 				options.setExperimentalOption("prefs", prefs);
 				options.addArguments("--no-sandbox");
-				return capabilities;
+				options.setHeadless(launchProfile.isHeadless());
+				options.setPageLoadStrategy(launchProfile.getPageLoadStrategy());
+				final Dimension windowSize = launchProfile.getWindowSize();
+				if (windowSize != null) {
+					options.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+				}
+				if (launchProfile.isLowOverhead()) {
+					options.addArguments("--disable-extensions", "--disable-gpu", "--disable-background-networking",
+							"--disable-default-apps", "--disable-sync", "--disable-dev-shm-usage", "--mute-audio");
+				}
+				return capabilities.merge(options);
 			}
 
 			@Override
 			public boolean isHeadless() {
-				return false;
+				return LaunchProfile.current().isHeadless();
 			}
 		};
 
@@ -189,43 +267,106 @@ public abstract class AbstractWebDriverTestCase {
 		}
 	}
 
-	class WebDriverSupplier implements Supplier<RemoteWebDriver> {
+	/**
+	 * Create a new browser session, on the selenium hub {@value #HUB_URL_PROPERTY} if set, otherwise locally. The
+	 * creation latency is recorded in {@link SessionCreationMetrics}, the latency of its commands in a
+	 * {@link SessionLatencyModel}.
+	 */
+	static WebDriver newWebDriver(final WebDriverKind driverKind) {
+		final String hubUrl = System.getProperty(HUB_URL_PROPERTY);
+		if (hubUrl != null && !hubUrl.isEmpty()) {
+			try {
+				final WebDriver webDriver = new WebDriverSupplier(driverKind, new URL(hubUrl),
+						Integer.getInteger(HUB_ATTEMPTS_PROPERTY, 5)).get();
+				SessionLatencyModel.install(webDriver);
+				return webDriver;
+			} catch (MalformedURLException e) {
+				throw new IllegalStateException("Invalid hub url " + hubUrl, e);
+			}
+		}
+		final Stopwatch sw = Stopwatch.createStarted();
+		try {
+			final WebDriver webDriver = driverKind.getInstance();
+			SessionCreationMetrics.recordSuccess(driverKind, sw.elapsed(TimeUnit.MILLISECONDS));
+			SessionLatencyModel.install(webDriver);
+			return webDriver;
+		} catch (RuntimeException e) {
+			SessionCreationMetrics.recordFailure(driverKind);
+			throw e;
+		}
+	}
+
+	/**
+	 * Create a session on a selenium hub. Failed attempts are retried after a jittered exponential backoff, and the
+	 * {@link HubCircuitBreaker} of the hub makes all workers fail fast while the hub is unhealthy.
+	 */
+	static class WebDriverSupplier implements Supplier<RemoteWebDriver> {
 
 		private final int maxAttempts;
 		private final URL hubUrl;
 		private final WebDriverKind driverKind;
+		private final ExponentialBackoff backoff;
+		private final HubCircuitBreaker circuitBreaker;
+		private final BiFunction<URL, Capabilities, RemoteWebDriver> sessionFactory;
 
 		WebDriverSupplier(WebDriverKind driverKind, URL hubUrl, int maxAttempts) {
+			this(driverKind, hubUrl, maxAttempts, new ExponentialBackoff(1000, 30_000),
+					HubCircuitBreaker.forHub(hubUrl), RemoteWebDriver::new);
+		}
+
+		WebDriverSupplier(WebDriverKind driverKind, URL hubUrl, int maxAttempts, ExponentialBackoff backoff,
+				HubCircuitBreaker circuitBreaker, BiFunction<URL, Capabilities, RemoteWebDriver> sessionFactory) {
 			this.maxAttempts = maxAttempts;
 			this.hubUrl = hubUrl;
 			this.driverKind = driverKind;
+			this.backoff = backoff;
+			this.circuitBreaker = circuitBreaker;
+			this.sessionFactory = sessionFactory;
 		}
 
 		@Override
 		public RemoteWebDriver get() {
 			int retryCounter = 0;
 			while (retryCounter < maxAttempts) {
+				if (!circuitBreaker.allowRequest()) {
+					throw new WebDriverException(String.format(
+							"[START_REMOTE] Hub %s is unhealthy, do not try to instantiate %s for the next %s ms",
+							hubUrl, driverKind.name(), circuitBreaker.getRemainingOpenMillis()));
+				}
 				Stopwatch sw = Stopwatch.createStarted();
 				try {
 					retryCounter++;
-					final RemoteWebDriver driver = new RemoteWebDriver(hubUrl, driverKind.getCapabilities());
+					final RemoteWebDriver driver = sessionFactory.apply(hubUrl, driverKind.getCapabilities());
+					final long elapsed = sw.elapsed(TimeUnit.MILLISECONDS);
+					circuitBreaker.recordSuccess();
+					SessionCreationMetrics.recordSuccess(driverKind, elapsed);
 					LOGGER.info("[START_REMOTE] Attempt n° " + retryCounter + " to instantiate " + driverKind.name()
-							+ " on " + hubUrl + " took " + sw.elapsed(TimeUnit.SECONDS) + " s");
+							+ " on " + hubUrl + " took " + elapsed + " ms ("
+							+ SessionCreationMetrics.summary(driverKind) + ")");
 					return driver;
 				} catch (Exception ex) {
+					circuitBreaker.recordFailure();
+					SessionCreationMetrics.recordFailure(driverKind);
 					LOGGER.error("[START_REMOTE] Attempt n° " + retryCounter + " on " + maxAttempts + " to instantiate "
-							+ driverKind.name() + " on " + hubUrl + " failed after " + sw.elapsed(TimeUnit.SECONDS)
-							+ " s");
+							+ driverKind.name() + " on " + hubUrl + " failed after "
+							+ sw.elapsed(TimeUnit.MILLISECONDS) + " ms");
 					LOGGER.error(ex);
 					if (retryCounter >= maxAttempts) {
 						break;
 					} else {
 						try {
-							Thread.sleep(1000);
+							backoff.sleep(retryCounter);
 						} catch (InterruptedException e) {
 							LOGGER.error(e);
+							Thread.currentThread().interrupt();
+							break;
 						}
 					}
+				} catch (Error e) {
+					// not retried, but recorded: a half open circuit left without result would never close again
+					circuitBreaker.recordFailure();
+					SessionCreationMetrics.recordFailure(driverKind);
+					throw e;
 				}
 			}
 			throw new WebDriverException("Could not instantiate remote web driver on all of " + maxAttempts + " attempts");
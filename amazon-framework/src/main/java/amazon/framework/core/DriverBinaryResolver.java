@@ -0,0 +1,258 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Find the driver binary (chromedriver, geckodriver, IEDriverServer) of a {@link WebDriverKind} once per JVM, and
+ * set the matching selenium system properties. The binary is searched in this order:
+ * <li>the selenium system property if it is already set, e.g: -Dwebdriver.chrome.driver=/opt/chromedriver</li>
+ * <li>the local cache directory {@value #CACHE_DIR_PROPERTY} (default C:\selenium\drivers on Windows,
+ * ~/.cache/selenium/drivers elsewhere), including its sub directories. For Chrome, the latest chromedriver of the
+ * major version of the installed Chrome, e.g: chromedriver94 next to chromedriver93 after an update of Chrome</li>
+ * <li>a download into the cache directory with WebDriverManager, unless {@value #OFFLINE_PROPERTY} is true</li>
+ * The version of chromedriver is checked against the installed Chrome when the resolution happens. The version of
+ * Chrome is read from the registry on Windows, from the Chrome executables elsewhere: when it cannot be read, the
+ * latest chromedriver of the cache is taken without check.
+ */
+public final class DriverBinaryResolver {
+
+	private static final Log LOGGER = LogFactory.getLog(DriverBinaryResolver.class);
+
+	public static final String CACHE_DIR_PROPERTY = "webdriver.cache.dir";
+	public static final String OFFLINE_PROPERTY = "webdriver.cache.offline";
+	public static final String LOG_DIR_PROPERTY = "webdriver.log.dir";
+
+	private static final Pattern VERSION = Pattern.compile("(\\d+)\\.\\d+[.\\d]*");
+	// chrome.exe does not print its version on Windows
+	private static final String[][] CHROME_VERSION_COMMANDS = SystemUtils.IS_OS_WINDOWS ? new String[][] {
+			{ "reg", "query", "HKCU\\Software\\Google\\Chrome\\BLBeacon", "/v", "version" },
+			{ "reg", "query", "HKLM\\Software\\Google\\Chrome\\BLBeacon", "/v", "version" },
+			{ "reg", "query", "HKLM\\Software\\Wow6432Node\\Google\\Chrome\\BLBeacon", "/v", "version" } }
+			: new String[][] { { "google-chrome", "--version" }, { "google-chrome-stable", "--version" },
+					{ "chromium", "--version" }, { "chromium-browser", "--version" },
+					{ "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome", "--version" } };
+
+	private static final Map<WebDriverKind, String> RESOLVED = new ConcurrentHashMap<>();
+
+	private DriverBinaryResolver() {
+		// to hide constructor
+	}
+
+	/**
+	 * Resolve the driver binary of the kind, only the first call per kind does the work.
+	 *
+	 * @return the absolute path of the driver binary
+	 */
+	public static String resolve(final WebDriverKind driverKind) {
+		return RESOLVED.computeIfAbsent(driverKind, DriverBinaryResolver::doResolve);
+	}
+
+	/**
+	 * @return the directory for driver and browser logs ({@value #LOG_DIR_PROPERTY}, default C:\selenium\logs on
+	 *         Windows, [tmpdir]/selenium/logs elsewhere)
+	 */
+	public static String getLogDirectory() {
+		final String defaultDir = SystemUtils.IS_OS_WINDOWS ? "C:\\selenium\\logs"
+				: Paths.get(SystemUtils.JAVA_IO_TMPDIR, "selenium", "logs").toString();
+		return System.getProperty(LOG_DIR_PROPERTY, defaultDir);
+	}
+
+	public static String getLogFile(final String fileName) {
+		return Paths.get(getLogDirectory(), fileName).toString();
+	}
+
+	private static String doResolve(final WebDriverKind driverKind) {
+		final String driverProperty = getDriverProperty(driverKind);
+		final String browserVersion = driverKind == WebDriverKind.Chrome ? readChromeVersion() : null;
+		final String browserMajor = browserVersion != null ? getMajorVersion(browserVersion) : null;
+		String binary = System.getProperty(driverProperty);
+		if (StringUtils.isBlank(binary) || !new File(binary).canExecute()) {
+			binary = findInCache(getCacheDirectory(), getExecutableName(driverKind), browserMajor);
+		}
+		if (binary == null) {
+			binary = download(driverKind);
+		}
+		System.setProperty(driverProperty, binary);
+		if (driverKind == WebDriverKind.Chrome) {
+			System.setProperty("webdriver.chrome.logfile", getLogFile("chromedriver.log"));
+			System.setProperty("webdriver.chrome.verboseLogging", "true");
+		}
+		new File(getLogDirectory()).mkdirs();
+		checkVersion(binary, browserVersion);
+		LOGGER.info(String.format("Driver binary of '%s': %s", driverKind, binary));
+		return binary;
+	}
+
+	/**
+	 * @param browserMajor the major version the driver must have, null for any
+	 * @return the latest driver binary of the cache directory with the major version, null if none
+	 */
+	static String findInCache(final Path cacheDir, final String executableName, final String browserMajor) {
+		if (!Files.isDirectory(cacheDir)) {
+			return null;
+		}
+		final String lowerCaseName = executableName.toLowerCase();
+		try (Stream<Path> files = Files.walk(cacheDir, 4)) {
+			final List<Path> candidates = files.filter(Files::isRegularFile)
+					.filter(file -> isExecutable(file, lowerCaseName))
+					.sorted(Comparator.comparingLong(DriverBinaryResolver::lastModified).reversed())
+					.collect(Collectors.toList());
+			for (Path candidate : candidates) {
+				final String binary = candidate.toAbsolutePath().toString();
+				final String driverVersion = browserMajor != null ? readVersion(binary, "--version") : null;
+				if (browserMajor == null || driverVersion != null && browserMajor.equals(getMajorVersion(driverVersion))) {
+					if (candidates.size() > 1) {
+						LOGGER.info(String.format("Several '%s' found in %s, take %s", executableName, cacheDir,
+								binary));
+					}
+					return binary;
+				}
+			}
+			if (!candidates.isEmpty()) {
+				LOGGER.info(String.format("None of %s supports version %s of the browser, download it", candidates,
+						browserMajor));
+			}
+			return null;
+		} catch (IOException e) {
+			LOGGER.warn("Cannot search driver binaries in " + cacheDir, e);
+			return null;
+		}
+	}
+
+	private static String download(final WebDriverKind driverKind) {
+		if (Boolean.getBoolean(OFFLINE_PROPERTY)) {
+			throw new IllegalStateException(String.format("No '%s' found in %s, please put it there or set %s",
+					getExecutableName(driverKind), getCacheDirectory(), getDriverProperty(driverKind)));
+		}
+		// the version of the driver is chosen by WebDriverManager from the version of the installed browser
+		final WebDriverManager manager = getWebDriverManager(driverKind);
+		manager.targetPath(getCacheDirectory().toString()).setup();
+		return manager.getBinaryPath();
+	}
+
+	/**
+	 * Fail fast when chromedriver does not support the installed Chrome: otherwise every session creation fails with a
+	 * less explicit error. Other drivers only get their version logged.
+	 *
+	 * @param browserVersion version of the installed Chrome, null for the other drivers or if unknown
+	 */
+	private static void checkVersion(final String binary, final String browserVersion) {
+		final String driverVersion = readVersion(binary, "--version");
+		LOGGER.info(String.format("Version of '%s': %s", binary, driverVersion));
+		if (driverVersion != null && browserVersion != null
+				&& !getMajorVersion(browserVersion).equals(getMajorVersion(driverVersion))) {
+			throw new IllegalStateException(String.format("%s %s does not support Chrome %s", binary, driverVersion,
+					browserVersion));
+		}
+	}
+
+	private static String readChromeVersion() {
+		for (String[] command : CHROME_VERSION_COMMANDS) {
+			final String version = readVersion(command);
+			if (version != null) {
+				LOGGER.info("Version of Chrome: " + version);
+				return version;
+			}
+		}
+		LOGGER.info("Version of Chrome unknown, chromedriver is not checked");
+		return null;
+	}
+
+	private static String readVersion(final String... command) {
+		try {
+			final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+			if (!process.waitFor(10, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+				return null;
+			}
+			final Matcher matcher = VERSION
+					.matcher(IOUtils.toString(process.getInputStream(), StandardCharsets.UTF_8));
+			return matcher.find() ? matcher.group() : null;
+		} catch (IOException e) {
+			// not installed
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private static String getMajorVersion(final String version) {
+		final Matcher matcher = VERSION.matcher(version);
+		return matcher.find() ? matcher.group(1) : version;
+	}
+
+	private static Path getCacheDirectory() {
+		final String defaultDir = SystemUtils.IS_OS_WINDOWS ? "C:\\selenium\\drivers"
+				: Paths.get(SystemUtils.USER_HOME, ".cache", "selenium", "drivers").toString();
+		return Paths.get(System.getProperty(CACHE_DIR_PROPERTY, defaultDir));
+	}
+
+	private static boolean isExecutable(final Path file, final String executableName) {
+		final String fileName = file.getFileName().toString().toLowerCase();
+		if (!fileName.startsWith(executableName)) {
+			return false;
+		}
+		// e.g: chromedriver93.exe on Windows, chromedriver on Linux
+		return SystemUtils.IS_OS_WINDOWS ? fileName.endsWith(".exe") : Files.isExecutable(file);
+	}
+
+	private static long lastModified(final Path file) {
+		return file.toFile().lastModified();
+	}
+
+	private static String getDriverProperty(final WebDriverKind driverKind) {
+		switch (driverKind) {
+		case Firefox:
+			return "webdriver.gecko.driver";
+		case IE:
+			return "webdriver.ie.driver";
+		default:
+			return "webdriver.chrome.driver";
+		}
+	}
+
+	private static String getExecutableName(final WebDriverKind driverKind) {
+		switch (driverKind) {
+		case Firefox:
+			return "geckodriver";
+		case IE:
+			return "IEDriverServer";
+		default:
+			return "chromedriver";
+		}
+	}
+
+	private static WebDriverManager getWebDriverManager(final WebDriverKind driverKind) {
+		switch (driverKind) {
+		case Firefox:
+			return WebDriverManager.firefoxdriver();
+		case IE:
+			return WebDriverManager.iedriver();
+		default:
+			return WebDriverManager.chromedriver();
+		}
+	}
+}
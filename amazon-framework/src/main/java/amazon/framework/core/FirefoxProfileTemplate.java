@@ -0,0 +1,86 @@
+package amazon.framework.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.firefox.FirefoxProfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Firefox profile built once per run and shared by all Firefox sessions, local and remote. Selenium sends the profile
+ * as a zipped and base64 encoded string: this string is computed once, then the preferences of the template are
+ * frozen. <br>
+ * When {@value #PROFILE_DIR_PROPERTY} is set, the template starts from this directory. The directory is only read:
+ * Firefox runs on a temporary copy of it.
+ */
+final class FirefoxProfileTemplate extends FirefoxProfile {
+
+	private static final Log LOGGER = LogFactory.getLog(FirefoxProfileTemplate.class);
+
+	public static final String PROFILE_DIR_PROPERTY = "webdriver.firefox.profile.dir";
+
+	private static volatile FirefoxProfileTemplate instance;
+
+	private String json;
+
+	private FirefoxProfileTemplate(final File profileDir) {
+		super(profileDir);
+	}
+
+	/**
+	 * @param initializer sets the preferences of the template, only called for the first session of the run
+	 */
+	static FirefoxProfileTemplate get(final Consumer<FirefoxProfile> initializer) {
+		FirefoxProfileTemplate template = instance;
+		if (template == null) {
+			synchronized (FirefoxProfileTemplate.class) {
+				template = instance;
+				if (template == null) {
+					final String profileDir = System.getProperty(PROFILE_DIR_PROPERTY);
+					template = new FirefoxProfileTemplate(profileDir != null ? new File(profileDir) : null);
+					initializer.accept(template);
+					LOGGER.info("Firefox profile template built" + (profileDir != null ? " from " + profileDir : ""));
+					instance = template;
+				}
+			}
+		}
+		return template;
+	}
+
+	@Override
+	public synchronized String toJson() throws IOException {
+		if (json == null) {
+			json = super.toJson();
+		}
+		return json;
+	}
+
+	@Override
+	public void setPreference(final String key, final String value) {
+		checkNotSerialized(key);
+		super.setPreference(key, value);
+	}
+
+	@Override
+	public void setPreference(final String key, final boolean value) {
+		checkNotSerialized(key);
+		super.setPreference(key, value);
+	}
+
+	@Override
+	public void setPreference(final String key, final int value) {
+		checkNotSerialized(key);
+		super.setPreference(key, value);
+	}
+
+	private synchronized void checkNotSerialized(final String key) {
+		if (json != null) {
+			throw new WebDriverException(String.format(
+					"Cannot set preference '%s': the Firefox profile template is already serialized, "
+							+ "set it in the template initializer", key));
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package amazon.framework.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker per selenium hub. After {@value #FAILURE_THRESHOLD_PROPERTY} consecutive failures to create a
+ * session, the circuit opens and session requests fail fast for {@value #OPEN_DURATION_PROPERTY} seconds. Then a
+ * single request is let through: its success closes the circuit, its failure opens it again.
+ */
+public class HubCircuitBreaker {
+
+	private static final Log LOGGER = LogFactory.getLog(HubCircuitBreaker.class);
+
+	public static final String FAILURE_THRESHOLD_PROPERTY = "webdriver.hub.failure.threshold";
+	public static final String OPEN_DURATION_PROPERTY = "webdriver.hub.open.duration";
+
+	private static final Map<String, HubCircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String hub;
+	private final int failureThreshold;
+	private final long openDurationNanos;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+
+	HubCircuitBreaker(final String hub, final int failureThreshold, final long openDurationMillis) {
+		this.hub = hub;
+		this.failureThreshold = failureThreshold;
+		this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+	}
+
+	public static HubCircuitBreaker forHub(final URL hubUrl) {
+		return BREAKERS.computeIfAbsent(hubUrl.toString(),
+				hub -> new HubCircuitBreaker(hub, Integer.getInteger(FAILURE_THRESHOLD_PROPERTY, 3),
+						TimeUnit.SECONDS.toMillis(Long.getLong(OPEN_DURATION_PROPERTY, 30L))));
+	}
+
+	/**
+	 * @return true if a session request can be sent to the hub. In half open state, only the first caller gets true
+	 *         until the result of its request is recorded.
+	 */
+	public synchronized boolean allowRequest() {
+		switch (state) {
+		case CLOSED:
+			return true;
+		case OPEN:
+			if (System.nanoTime() - openedAt >= openDurationNanos) {
+				LOGGER.info(String.format("Hub %s: circuit half open, probe with one request", hub));
+				state = State.HALF_OPEN;
+				return true;
+			}
+			return false;
+		default:
+			return false;
+		}
+	}
+
+	public synchronized void recordSuccess() {
+		if (state != State.CLOSED) {
+			LOGGER.info(String.format("Hub %s: circuit closed", hub));
+		}
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+	}
+
+	public synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+			LOGGER.warn(String.format("Hub %s: circuit open after %s consecutive failures", hub, consecutiveFailures));
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public synchronized long getRemainingOpenMillis() {
+		if (state != State.OPEN) {
+			return 0;
+		}
+		return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openDurationNanos - (System.nanoTime() - openedAt)));
+	}
+}
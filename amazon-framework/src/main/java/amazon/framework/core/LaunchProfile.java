@@ -0,0 +1,77 @@
+package amazon.framework.core;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * How browsers are launched for the run, selected with the system property {@value #PROFILE_PROPERTY}:
+ * <li>DESKTOP (default): visible browser, maximized window.</li>
+ * <li>HEADLESS: headless browser with a fixed window size and without extensions, GPU and background networking.</li>
+ * <li>LOW_OVERHEAD: same as HEADLESS but the browser is visible, for debugging on a CI host.</li>
+ * The window size ({@value #WINDOW_SIZE_PROPERTY}, default 1920x1080) and the page load strategy
+ * ({@value #PAGE_LOAD_STRATEGY_PROPERTY}: normal, eager or none) can be overridden for every profile.
+ */
+public enum LaunchProfile {
+
+	DESKTOP(false, false), HEADLESS(true, true), LOW_OVERHEAD(false, true);
+
+	public static final String PROFILE_PROPERTY = "webdriver.launch.profile";
+	public static final String WINDOW_SIZE_PROPERTY = "webdriver.window.size";
+	public static final String PAGE_LOAD_STRATEGY_PROPERTY = "webdriver.page.load.strategy";
+
+	private static final String DEFAULT_WINDOW_SIZE = "1920x1080";
+
+	private final boolean headless;
+	private final boolean lowOverhead;
+
+	LaunchProfile(final boolean headless, final boolean lowOverhead) {
+		this.headless = headless;
+		this.lowOverhead = lowOverhead;
+	}
+
+	public static LaunchProfile current() {
+		return valueOf(System.getProperty(PROFILE_PROPERTY, DESKTOP.name()).toUpperCase());
+	}
+
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * @return true if extensions, GPU and background networking should be disabled
+	 */
+	public boolean isLowOverhead() {
+		return lowOverhead;
+	}
+
+	/**
+	 * @return the fixed window size, or null if the window should be maximized
+	 */
+	public Dimension getWindowSize() {
+		final String size = System.getProperty(WINDOW_SIZE_PROPERTY);
+		if (size == null && this == DESKTOP) {
+			return null;
+		}
+		final String[] widthAndHeight = (size != null ? size : DEFAULT_WINDOW_SIZE).toLowerCase().split("x");
+		return new Dimension(Integer.parseInt(widthAndHeight[0].trim()), Integer.parseInt(widthAndHeight[1].trim()));
+	}
+
+	public PageLoadStrategy getPageLoadStrategy() {
+		final String strategy = System.getProperty(PAGE_LOAD_STRATEGY_PROPERTY);
+		return strategy != null ? PageLoadStrategy.fromString(strategy) : PageLoadStrategy.NORMAL;
+	}
+
+	/**
+	 * Maximize the window or set it to the fixed size of the profile. Headless browsers get their size at launch and
+	 * cannot be maximized.
+	 */
+	public void applyWindow(final WebDriver driver) {
+		final Dimension windowSize = getWindowSize();
+		if (windowSize == null) {
+			driver.manage().window().maximize();
+		} else if (!headless) {
+			driver.manage().window().setSize(windowSize);
+		}
+	}
+}
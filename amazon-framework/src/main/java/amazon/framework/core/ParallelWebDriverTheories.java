@@ -0,0 +1,167 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import amazon.framework.core.WebDriverSuppliers.AllWebDrivers;
+import amazon.framework.core.WebDriverSuppliers.AllWebDriversSupplier;
+import amazon.framework.util.DriverSessionHolder;
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.experimental.theories.Theories;
+import org.junit.internal.AssumptionViolatedException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.MultipleFailureException;
+import org.junit.runners.model.Statement;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Theories} runner executing the browsers of an {@link AllWebDrivers} theory concurrently, so that a cross
+ * browser run takes the time of the slowest browser. <br>
+ * Each {@link WebDriverKind} has its own worker thread for the whole test class, hence its own
+ * {@link amazon.framework.util.DriverSession}: sessions are reused by the theories of the class exactly like with
+ * {@link Theories}, and quit at the end of the class. Failures are reported per browser.
+ *
+ * <pre>
+ * &#64;RunWith(ParallelWebDriverTheories.class)
+ * public class SearchTests extends AbstractJavashopWebDriverTestCase {
+ *     &#64;Theory
+ *     public void search(&#64;AllWebDrivers final WebDriverKind browser) {
+ * </pre>
+ */
+public class ParallelWebDriverTheories extends Theories {
+
+	private static final Log LOGGER = LogFactory.getLog(ParallelWebDriverTheories.class);
+
+	private final Map<WebDriverKind, ExecutorService> workers = new LinkedHashMap<>();
+
+	public ParallelWebDriverTheories(final Class<?> klass) throws InitializationError {
+		super(klass);
+	}
+
+	@Override
+	public Statement methodBlock(final FrameworkMethod method) {
+		final List<WebDriverKind> kinds = AllWebDriversSupplier.getKinds();
+		if (kinds.size() < 2 || !hasAllWebDriversParameter(method)) {
+			return super.methodBlock(method);
+		}
+		return new Statement() {
+			@Override
+			public void evaluate() throws Throwable {
+				evaluateConcurrently(method, kinds);
+			}
+		};
+	}
+
+	@Override
+	protected Statement classBlock(final RunNotifier notifier) {
+		final Statement classBlock = super.classBlock(notifier);
+		return new Statement() {
+			@Override
+			public void evaluate() throws Throwable {
+				try {
+					classBlock.evaluate();
+				} finally {
+					quitWorkers();
+				}
+			}
+		};
+	}
+
+	private void evaluateConcurrently(final FrameworkMethod method, final List<WebDriverKind> kinds)
+			throws Throwable {
+		final Stopwatch sw = Stopwatch.createStarted();
+		final Map<WebDriverKind, Future<Long>> results = new LinkedHashMap<>();
+		for (WebDriverKind kind : kinds) {
+			results.put(kind, getWorker(kind).submit(() -> {
+				final Stopwatch kindSw = Stopwatch.createStarted();
+				AllWebDriversSupplier.ONLY_KIND.set(kind);
+				try {
+					new TheoryAnchor(method, getTestClass()).evaluate();
+				} catch (Throwable t) {
+					Throwables.propagateIfPossible(t, Exception.class);
+					throw new RuntimeException(t);
+				} finally {
+					AllWebDriversSupplier.ONLY_KIND.remove();
+				}
+				return kindSw.elapsed(TimeUnit.MILLISECONDS);
+			}));
+		}
+
+		final List<Throwable> failures = new ArrayList<>();
+		final List<Throwable> assumptionFailures = new ArrayList<>();
+		final StringBuilder summary = new StringBuilder();
+		for (Map.Entry<WebDriverKind, Future<Long>> result : results.entrySet()) {
+			summary.append(summary.length() == 0 ? "" : ", ").append(result.getKey()).append(": ");
+			try {
+				summary.append("passed in ").append(result.getValue().get()).append(" ms");
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof AssumptionViolatedException) {
+					summary.append("skipped");
+					assumptionFailures.add(e.getCause());
+				} else {
+					summary.append("failed");
+					failures.add(new AssertionError(
+							String.format("%s failed on %s: %s", method.getName(), result.getKey(), e.getCause()),
+							e.getCause()));
+				}
+			}
+		}
+		LOGGER.info(String.format("Theory %s took %s ms (%s)", method.getName(), sw.elapsed(TimeUnit.MILLISECONDS),
+				summary));
+
+		MultipleFailureException.assertEmpty(failures);
+		if (assumptionFailures.size() == results.size()) {
+			throw assumptionFailures.get(0);
+		}
+	}
+
+	private synchronized ExecutorService getWorker(final WebDriverKind kind) {
+		return workers.computeIfAbsent(kind, k -> Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+				.setNameFormat("webdriver-theories-" + kind).setThreadFactory(runnable -> new Thread(() -> {
+					// the worker inherits the session of the runner thread, it must start its own browser
+					DriverSessionHolder.detach();
+					runnable.run();
+				})).build()));
+	}
+
+	/**
+	 * Release the browser of each worker like {@link AbstractWebDriverTestCase#quitDriver()}, from the worker thread
+	 * owning its session: a browser leased from the {@link WebDriverPool} is given back.
+	 */
+	private synchronized void quitWorkers() {
+		for (ExecutorService worker : workers.values()) {
+			worker.submit(() -> {
+				if (DriverSessionHolder.hasDriverSessionSet()) {
+					AbstractWebDriverTestCase.releaseDriver();
+				}
+			});
+			worker.shutdown();
+		}
+		workers.clear();
+	}
+
+	private static boolean hasAllWebDriversParameter(final FrameworkMethod method) {
+		for (Annotation[] annotations : method.getMethod().getParameterAnnotations()) {
+			for (Annotation annotation : annotations) {
+				if (annotation instanceof AllWebDrivers) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,97 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency of browser session creation per {@link WebDriverKind}, local or remote. Only the latest
+ * {@value #SAMPLE_SIZE} successful creations are kept to compute the percentiles.
+ */
+public final class SessionCreationMetrics {
+
+	private static final Log LOGGER = LogFactory.getLog(SessionCreationMetrics.class);
+
+	static final int SAMPLE_SIZE = 1024;
+
+	private static final Map<WebDriverKind, Samples> SAMPLES = new ConcurrentHashMap<>();
+
+	private SessionCreationMetrics() {
+		// to hide constructor
+	}
+
+	public static void recordSuccess(final WebDriverKind driverKind, final long elapsedMillis) {
+		getSamples(driverKind).add(elapsedMillis);
+	}
+
+	public static void recordFailure(final WebDriverKind driverKind) {
+		getSamples(driverKind).addFailure();
+	}
+
+	/**
+	 * @param percentile between 0 and 100
+	 * @return the latency in milliseconds, or -1 if no session of this kind was created
+	 */
+	public static long getPercentile(final WebDriverKind driverKind, final double percentile) {
+		return getSamples(driverKind).getPercentile(percentile);
+	}
+
+	public static String summary(final WebDriverKind driverKind) {
+		final Samples samples = getSamples(driverKind);
+		return String.format("%s: %s sessions created, %s failures, p50=%s ms p95=%s ms p99=%s ms", driverKind,
+				samples.getCount(), samples.getFailures(), samples.getPercentile(50), samples.getPercentile(95),
+				samples.getPercentile(99));
+	}
+
+	public static void logSummary() {
+		for (WebDriverKind driverKind : SAMPLES.keySet()) {
+			LOGGER.info("[SESSION_CREATION] " + summary(driverKind));
+		}
+	}
+
+	static void reset() {
+		SAMPLES.clear();
+	}
+
+	private static Samples getSamples(final WebDriverKind driverKind) {
+		return SAMPLES.computeIfAbsent(driverKind, k -> new Samples());
+	}
+
+	private static final class Samples {
+		private final long[] values = new long[SAMPLE_SIZE];
+		private long count;
+		private long failures;
+
+		synchronized void add(final long value) {
+			values[(int) (count % SAMPLE_SIZE)] = value;
+			count++;
+		}
+
+		synchronized void addFailure() {
+			failures++;
+		}
+
+		synchronized long getCount() {
+			return count;
+		}
+
+		synchronized long getFailures() {
+			return failures;
+		}
+
+		synchronized long getPercentile(final double percentile) {
+			final int size = (int) Math.min(count, SAMPLE_SIZE);
+			if (size == 0) {
+				return -1;
+			}
+			final long[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			final int rank = (int) Math.ceil(percentile / 100 * size);
+			return sorted[Math.min(Math.max(rank - 1, 0), size - 1)];
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import amazon.framework.util.DriverReaper;
+import amazon.framework.util.WebdriverHelper;
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded pool of started browsers, keyed by {@link WebDriverKind}. Their window is set up by the
+ * {@link LaunchProfile} of the run. <br>
+ * A test leases a browser with {@link #lease(WebDriverKind)} and gives it back with
+ * {@link #giveBack(WebDriverKind, WebDriver)}. Given back browsers are reset (see
+ * {@link WebdriverHelper#resetForReuse(WebDriver)}) before being offered to the next test, while the pool refills
+ * itself in background so that the next lease finds a warm browser.
+ * <p>
+ * The pool is disabled unless the system property {@value #POOL_SIZE_PROPERTY} is set to the maximum number of
+ * browsers per kind (leased and idle).
+ */
+public class WebDriverPool {
+
+	private static final Log LOGGER = LogFactory.getLog(WebDriverPool.class);
+
+	public static final String POOL_SIZE_PROPERTY = "webdriver.pool.size";
+	public static final String LEASE_TIMEOUT_PROPERTY = "webdriver.pool.lease.timeout";
+
+	private static final WebDriverPool INSTANCE = new WebDriverPool(Integer.getInteger(POOL_SIZE_PROPERTY, 0),
+			Long.getLong(LEASE_TIMEOUT_PROPERTY, 300L), WebDriverPool::newWebDriver, WebdriverHelper::resetForReuse);
+
+	private final int maxSize;
+	private final long leaseTimeoutInSeconds;
+	private final Function<WebDriverKind, WebDriver> driverFactory;
+	private final Predicate<WebDriver> resetHook;
+
+	private final Map<WebDriverKind, BlockingDeque<WebDriver>> idleDrivers = new ConcurrentHashMap<>();
+	// idle, leased and starting browsers
+	private final Map<WebDriverKind, AtomicInteger> allocatedDrivers = new ConcurrentHashMap<>();
+	private final ExecutorService refillExecutor;
+
+	private volatile boolean shutdown;
+
+	WebDriverPool(final int maxSize, final long leaseTimeoutInSeconds,
+			final Function<WebDriverKind, WebDriver> driverFactory, final Predicate<WebDriver> resetHook) {
+		this.maxSize = maxSize;
+		this.leaseTimeoutInSeconds = leaseTimeoutInSeconds;
+		this.driverFactory = driverFactory;
+		this.resetHook = resetHook;
+		this.refillExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxSize, 4)),
+				new ThreadFactoryBuilder().setNameFormat("webdriver-pool-refill-%d").setDaemon(true).build());
+	}
+
+	public static WebDriverPool getInstance() {
+		return INSTANCE;
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0 && !shutdown;
+	}
+
+	/**
+	 * Start browsers in background until the pool is full for this kind. Can be called in a @BeforeClass to have the
+	 * browsers ready before the first test.
+	 */
+	public void warmUp(final WebDriverKind driverKind) {
+		while (isEnabled() && reserve(driverKind)) {
+			refillExecutor.submit(() -> refill(driverKind));
+		}
+	}
+
+	/**
+	 * Take an idle browser of the given kind. If none is idle, a browser is started in the calling thread as long as
+	 * the pool is not full, otherwise wait until another test gives one back.
+	 */
+	public WebDriver lease(final WebDriverKind driverKind) {
+		final BlockingDeque<WebDriver> idle = getIdleDrivers(driverKind);
+		WebDriver driver = idle.pollFirst();
+		if (driver == null && reserve(driverKind)) {
+			LOGGER.info(String.format("No idle browser '%s' in pool, start a new one", driverKind));
+			driver = start(driverKind);
+		}
+		if (driver == null) {
+			try {
+				driver = idle.pollFirst(leaseTimeoutInSeconds, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new WebDriverException("Interrupted while waiting for a browser " + driverKind, e);
+			}
+			if (driver == null) {
+				throw new WebDriverException(String.format("No browser '%s' available in pool after %s s", driverKind,
+						leaseTimeoutInSeconds));
+			}
+		}
+		warmUp(driverKind);
+		return driver;
+	}
+
+	/**
+	 * Give a leased browser back to the pool. The browser is reset, and quit if the reset fails.
+	 */
+	public void giveBack(final WebDriverKind driverKind, final WebDriver driver) {
+		if (!shutdown && resetHook.test(driver)) {
+			offerIdle(driverKind, driver, true);
+		} else {
+			discard(driverKind, driver);
+		}
+	}
+
+	/**
+	 * Quit a leased browser which cannot be reused, and start another one in background.
+	 */
+	public void discard(final WebDriverKind driverKind, final WebDriver driver) {
+		DriverReaper.getInstance().reap("discarded " + driverKind, driver);
+		getAllocatedDrivers(driverKind).decrementAndGet();
+		warmUp(driverKind);
+	}
+
+	/**
+	 * Quit all idle browsers in background. Leased browsers stay under the responsibility of their test.
+	 */
+	public void shutdown() {
+		shutdown = true;
+		refillExecutor.shutdownNow();
+		final List<WebDriver> drivers = new ArrayList<>();
+		for (BlockingDeque<WebDriver> idle : idleDrivers.values()) {
+			idle.drainTo(drivers);
+		}
+		for (WebDriver driver : drivers) {
+			DriverReaper.getInstance().reap("idle", driver);
+		}
+	}
+
+	private void refill(final WebDriverKind driverKind) {
+		try {
+			offerIdle(driverKind, start(driverKind), false);
+		} catch (RuntimeException e) {
+			LOGGER.warn(String.format("Could not start browser '%s' in pool", driverKind), e);
+		}
+	}
+
+	/**
+	 * Make the browser idle, or quit it if the pool is shut down. The flag is checked again after the offer: a
+	 * concurrent {@link #shutdown()} may have drained the idle browsers in between, then only one of both quits it.
+	 */
+	private void offerIdle(final WebDriverKind driverKind, final WebDriver driver, final boolean first) {
+		final BlockingDeque<WebDriver> idle = getIdleDrivers(driverKind);
+		if (!shutdown) {
+			if (first) {
+				idle.offerFirst(driver);
+			} else {
+				idle.offerLast(driver);
+			}
+			if (!shutdown || !idle.remove(driver)) {
+				return;
+			}
+		}
+		DriverReaper.getInstance().reap("idle", driver);
+	}
+
+	private static WebDriver newWebDriver(final WebDriverKind driverKind) {
+		final WebDriver driver = AbstractWebDriverTestCase.newWebDriver(driverKind);
+		LaunchProfile.current().applyWindow(driver);
+		return driver;
+	}
+
+	/**
+	 * Start a browser and set up its window. The slot must have been reserved and is released on failure.
+	 */
+	private WebDriver start(final WebDriverKind driverKind) {
+		final Stopwatch sw = Stopwatch.createStarted();
+		try {
+			final WebDriver driver = driverFactory.apply(driverKind);
+			LOGGER.info(String.format("Started browser '%s' for pool in %s ms", driverKind,
+					sw.elapsed(TimeUnit.MILLISECONDS)));
+			return driver;
+		} catch (RuntimeException e) {
+			getAllocatedDrivers(driverKind).decrementAndGet();
+			throw e;
+		}
+	}
+
+	private boolean reserve(final WebDriverKind driverKind) {
+		final AtomicInteger allocated = getAllocatedDrivers(driverKind);
+		int current;
+		do {
+			current = allocated.get();
+			if (current >= maxSize) {
+				return false;
+			}
+		} while (!allocated.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	private BlockingDeque<WebDriver> getIdleDrivers(final WebDriverKind driverKind) {
+		return idleDrivers.computeIfAbsent(driverKind, k -> new LinkedBlockingDeque<>());
+	}
+
+	private AtomicInteger getAllocatedDrivers(final WebDriverKind driverKind) {
+		return allocatedDrivers.computeIfAbsent(driverKind, k -> new AtomicInteger());
+	}
+}
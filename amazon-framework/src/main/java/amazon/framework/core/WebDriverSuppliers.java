@@ -1,5 +1,6 @@
 package amazon.framework.core;
 
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
 import org.junit.experimental.theories.ParameterSignature;
 import org.junit.experimental.theories.ParameterSupplier;
 import org.junit.experimental.theories.ParametersSuppliedBy;
@@ -8,12 +9,14 @@ import org.junit.experimental.theories.PotentialAssignment;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class WebDriverSuppliers {
 
 	/**
-	 * Execute the test with multiple browsers while using the JUnit Theories runtime
+	 * Execute the test with multiple browsers while using the JUnit Theories runtime. With
+	 * {@link ParallelWebDriverTheories} the browsers run concurrently.
 	 *
 	 * @author Nicolas Rémond (nre)
 	 */
@@ -22,10 +25,30 @@ public class WebDriverSuppliers {
 	public @interface AllWebDrivers {
 	}
 	public static class AllWebDriversSupplier extends ParameterSupplier {
+
+		/**
+		 * Comma separated list of the browsers of the theories (default Chrome), e.g: -Dwebdriver.kinds=Chrome,Firefox
+		 */
+		public static final String KINDS_PROPERTY = "webdriver.kinds";
+
+		// set by ParallelWebDriverTheories on the thread running the theory for one browser
+		static final ThreadLocal<WebDriverKind> ONLY_KIND = new ThreadLocal<>();
+
+		public static List<WebDriverKind> getKinds() {
+			final List<WebDriverKind> kinds = new ArrayList<WebDriverKind>();
+			for (String kind : System.getProperty(KINDS_PROPERTY, WebDriverKind.Chrome.name()).split(",")) {
+				kinds.add(WebDriverKind.valueOf(kind.trim()));
+			}
+			return kinds;
+		}
+
 		@Override
 		public List<PotentialAssignment> getValueSources(final ParameterSignature sig) {
 			final List<PotentialAssignment> assignments = new ArrayList<PotentialAssignment>();
-			assignments.add(PotentialAssignment.forValue(AbstractWebDriverTestCase.WebDriverKind.Chrome.toString(), AbstractWebDriverTestCase.WebDriverKind.Chrome));
+			final WebDriverKind onlyKind = ONLY_KIND.get();
+			for (WebDriverKind kind : onlyKind != null ? Collections.singletonList(onlyKind) : getKinds()) {
+				assignments.add(PotentialAssignment.forValue(kind.toString(), kind));
+			}
 			return assignments;
 		}
 	}
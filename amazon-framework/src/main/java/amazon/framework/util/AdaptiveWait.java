@@ -0,0 +1,262 @@
+package amazon.framework.util;
+
+import com.google.common.base.Throwables;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link FluentWait} polling with an exponential backoff: the condition is checked again after 25 ms, 50 ms, 100 ms
+ * ... up to the polling interval, so that the conditions which resolve quickly do not pay a full polling interval.
+ * The polling interval given with {@link #pollingEvery(Duration)} is the upper bound of the backoff, use
+ * {@link #pollingFixedEvery(Duration)} for conditions with side effects (e.g: a click) which must keep a fixed pace.
+ * <br>
+ * The duration and the number of polls of each wait are logged, and available after the wait with
+ * {@link #getElapsedMillis()} and {@link #getPolls()}. The duration of the waits tagged with a category
+ * ({@link #withCategory(WaitCategory)}) is also recorded by {@link WaitTelemetry}. <br>
+ * A wait given a {@link WaitDeadline} never waits beyond the remaining budget of the step.
+ */
+public class AdaptiveWait<T> extends FluentWait<T> {
+
+	private static final Log LOGGER = LogFactory.getLog(AdaptiveWait.class);
+
+	private static final Duration INITIAL_POLLING = Duration.ofMillis(25);
+	// a shorter interval would busy loop on the browser
+	private static final Duration MIN_POLLING = Duration.ofMillis(10);
+	// same as FluentWait
+	private static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(500);
+	private static final long SLOW_WAIT_MILLIS = 10_000;
+
+	private final T input;
+	private final Clock clock;
+	private final Sleeper sleeper;
+
+	private Duration timeout = DEFAULT_TIMEOUT;
+	private Duration maxPolling = DEFAULT_TIMEOUT;
+	private boolean fixedPolling;
+	private Supplier<String> messageSupplier = () -> null;
+	private final List<Class<? extends Throwable>> ignoredExceptions = new ArrayList<>();
+	private WaitCategory category;
+	private WaitDeadline deadline;
+	private Duration alreadyWaited = Duration.ZERO;
+
+	private long elapsedMillis;
+	private int polls;
+
+	public AdaptiveWait(final T input) {
+		this(input, Clock.systemDefaultZone(), Sleeper.SYSTEM_SLEEPER);
+	}
+
+	public AdaptiveWait(final T input, final Clock clock, final Sleeper sleeper) {
+		super(input, clock, sleeper);
+		this.input = input;
+		this.clock = clock;
+		this.sleeper = sleeper;
+	}
+
+	@Override
+	public AdaptiveWait<T> withTimeout(final Duration timeout) {
+		super.withTimeout(timeout);
+		this.timeout = timeout;
+		return this;
+	}
+
+	@Deprecated
+	@Override
+	public AdaptiveWait<T> withTimeout(final long duration, final TimeUnit unit) {
+		return withTimeout(Duration.ofMillis(unit.toMillis(duration)));
+	}
+
+	/**
+	 * Record the duration of the waits in the category.
+	 */
+	public AdaptiveWait<T> withCategory(final WaitCategory category) {
+		this.category = category;
+		return this;
+	}
+
+	/**
+	 * Cut the timeout to the remaining budget of the step, when the wait starts.
+	 *
+	 * @param deadline null for no budget
+	 */
+	public AdaptiveWait<T> withDeadline(final WaitDeadline deadline) {
+		this.deadline = deadline;
+		return this;
+	}
+
+	/**
+	 * Account for time already spent waiting for the same condition by other means (e.g: inside the page): the
+	 * timeout is shortened accordingly, and the time is part of the recorded duration of the next wait.
+	 */
+	AdaptiveWait<T> alreadyWaited(final Duration elapsed) {
+		this.alreadyWaited = elapsed;
+		return withTimeout(elapsed.compareTo(timeout) < 0 ? timeout.minus(elapsed) : Duration.ZERO);
+	}
+
+	@Override
+	public AdaptiveWait<T> withMessage(final String message) {
+		return withMessage(() -> message);
+	}
+
+	@Override
+	public AdaptiveWait<T> withMessage(final Supplier<String> messageSupplier) {
+		super.withMessage(messageSupplier);
+		this.messageSupplier = messageSupplier;
+		return this;
+	}
+
+	/**
+	 * @param interval the longest interval between two polls, at least 10 ms
+	 */
+	@Override
+	public AdaptiveWait<T> pollingEvery(final Duration interval) {
+		final Duration clamped = interval.compareTo(MIN_POLLING) < 0 ? MIN_POLLING : interval;
+		super.pollingEvery(clamped);
+		this.maxPolling = clamped;
+		this.fixedPolling = false;
+		return this;
+	}
+
+	@Deprecated
+	@Override
+	public AdaptiveWait<T> pollingEvery(final long duration, final TimeUnit unit) {
+		return pollingEvery(Duration.ofMillis(unit.toMillis(duration)));
+	}
+
+	/**
+	 * Poll at a fixed interval, without backoff.
+	 */
+	public AdaptiveWait<T> pollingFixedEvery(final Duration interval) {
+		pollingEvery(interval);
+		this.fixedPolling = true;
+		return this;
+	}
+
+	@Override
+	public <K extends Throwable> AdaptiveWait<T> ignoreAll(final Collection<Class<? extends K>> types) {
+		super.ignoreAll(types);
+		ignoredExceptions.addAll(types);
+		return this;
+	}
+
+	@Override
+	public AdaptiveWait<T> ignoring(final Class<? extends Throwable> exceptionType) {
+		super.ignoring(exceptionType);
+		ignoredExceptions.add(exceptionType);
+		return this;
+	}
+
+	@Override
+	public AdaptiveWait<T> ignoring(final Class<? extends Throwable> firstType,
+			final Class<? extends Throwable> secondType) {
+		return ignoring(firstType).ignoring(secondType);
+	}
+
+	/**
+	 * Same contract as {@link FluentWait#until(Function)}.
+	 */
+	@Override
+	public <V> V until(final Function<? super T, V> isTrue) {
+		final Instant start = clock.instant();
+		final Duration effectiveTimeout = getTimeout();
+		final Instant end = start.plus(effectiveTimeout);
+		final ExponentialBackoff backoff = new ExponentialBackoff(
+				Math.min(INITIAL_POLLING.toMillis(), maxPolling.toMillis()), maxPolling.toMillis());
+		Throwable lastException;
+		polls = 0;
+		while (true) {
+			polls++;
+			try {
+				final V value = isTrue.apply(input);
+				if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+					report(start, "for " + isTrue, true);
+					return value;
+				}
+				lastException = null;
+			} catch (Throwable e) {
+				lastException = propagateIfNotIgnored(e);
+			}
+
+			final Instant now = clock.instant();
+			if (!now.isBefore(end)) {
+				// built only on timeout, as FluentWait: the message may cost a round trip to the browser
+				final String message = messageSupplier.get();
+				report(start, message != null ? "'" + message + "'" : "for " + isTrue, false);
+				final String budget = effectiveTimeout.compareTo(timeout) < 0
+						? ", budget of " + deadline.getBindingStep() + " exhausted" : "";
+				throw timeoutException(String.format("Expected condition failed: %s (tried for %d second(s) with %d polls%s)",
+						message == null ? "waiting for " + isTrue : message, effectiveTimeout.getSeconds(), polls, budget),
+						lastException);
+			}
+
+			final Duration interval = fixedPolling ? maxPolling : Duration.ofMillis(backoff.getMaxDelayMillis(polls));
+			final Duration remaining = Duration.between(now, end);
+			try {
+				sleeper.sleep(interval.compareTo(remaining) < 0 ? interval : remaining);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new WebDriverException(e);
+			}
+		}
+	}
+
+	/**
+	 * @return the timeout, cut to the remaining budget of the deadline if any
+	 */
+	public Duration getTimeout() {
+		return deadline != null ? deadline.clamp(timeout) : timeout;
+	}
+
+	/**
+	 * @return the duration of the last wait
+	 */
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	/**
+	 * @return the number of times the condition was evaluated by the last wait
+	 */
+	public int getPolls() {
+		return polls;
+	}
+
+	private void report(final Instant start, final String description, final boolean succeeded) {
+		elapsedMillis = start.until(clock.instant(), ChronoUnit.MILLIS) + alreadyWaited.toMillis();
+		alreadyWaited = Duration.ZERO;
+		if (category != null) {
+			WaitTelemetry.record(category, elapsedMillis, succeeded);
+		}
+		final String report = String.format("Wait %s %s after %s ms and %s polls", description,
+				succeeded ? "succeeded" : "timed out", elapsedMillis, polls);
+		if (elapsedMillis > SLOW_WAIT_MILLIS) {
+			LOGGER.info(report);
+		} else {
+			LOGGER.debug(report);
+		}
+	}
+
+	private Throwable propagateIfNotIgnored(final Throwable e) {
+		for (Class<? extends Throwable> ignoredException : ignoredExceptions) {
+			if (ignoredException.isInstance(e)) {
+				return e;
+			}
+		}
+		Throwables.throwIfUnchecked(e);
+		throw new RuntimeException(e);
+	}
+}
@@ -0,0 +1,52 @@
+package amazon.framework.util;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocator;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Same as {@link AjaxElementLocatorFactory}, but each lookup of an element waits at most for the remaining budget of
+ * the current step (see {@link WaitDeadline}) instead of the full timeout.
+ */
+public class BudgetedElementLocatorFactory implements ElementLocatorFactory {
+
+	private final SearchContext searchContext;
+	private final int timeOutInSeconds;
+
+	public BudgetedElementLocatorFactory(final SearchContext searchContext, final int timeOutInSeconds) {
+		this.searchContext = searchContext;
+		this.timeOutInSeconds = timeOutInSeconds;
+	}
+
+	@Override
+	public ElementLocator createLocator(final Field field) {
+		return new ElementLocator() {
+			@Override
+			public WebElement findElement() {
+				return newLocator().findElement();
+			}
+
+			@Override
+			public List<WebElement> findElements() {
+				return newLocator().findElements();
+			}
+
+			@Override
+			public String toString() {
+				return field.getDeclaringClass().getSimpleName() + "." + field.getName();
+			}
+
+			// the timeout of an AjaxElementLocator is fixed, the budget is only known at lookup
+			private ElementLocator newLocator() {
+				return new AjaxElementLocator(searchContext, field,
+						(int) WaitDeadline.remainingSeconds(timeOutInSeconds));
+			}
+		};
+	}
+}
@@ -3,11 +3,9 @@ package amazon.framework.util;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import static amazon.framework.util.DriverSessionHolder.getDriver;
 
 public class ButtonWidget {
 	protected final Log logger = LogFactory.getLog(ButtonWidget.class);
@@ -42,7 +40,7 @@ public class ButtonWidget {
 	}
 
 	public ButtonWidget waitForEnable() {
-		new WebDriverWait(getDriver(), 10).until(ExpectedConditions.visibilityOf(element));
+		WebdriverHelper.newWait(10).ignoring(NotFoundException.class).until(ExpectedConditions.visibilityOf(element));
 		return this;
 	}
 }
@@ -0,0 +1,197 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+
+/**
+ * Copy of the DOM of the page, fetched in one call and queried in the JVM: CSS selectors with jsoup, the other locators
+ * as XPath (javax.xml.xpath over the jsoup document). A page with many checks costs one fetch instead of one round trip
+ * per check. The fetch transfers the whole page: a single check is cheaper with a live query, only capture a snapshot
+ * shared by several checks. <br>
+ * A snapshot is READ-ONLY and POINT-IN-TIME:
+ * <ul>
+ * <li>it does not follow the changes of the page after {@link #capture()}, capture a new one after any action;</li>
+ * <li>nothing done to it reaches the browser, there is no element to click or type into;</li>
+ * <li>it holds the serialized HTML: the values typed in the fields, the visibility and the rendered texts are not
+ * known, the texts are the text contents with normalized whitespace.</li>
+ * </ul>
+ * Only use it for assertions, never to wait for something.
+ */
+public final class DomSnapshot {
+
+	private static final Log LOGGER = LogFactory.getLog(DomSnapshot.class);
+
+	private final String url;
+	private final Document document;
+	// built on the first XPath query
+	private org.w3c.dom.Document w3cDocument;
+
+	private DomSnapshot(final String url, final Document document) {
+		this.url = url;
+		this.document = document;
+	}
+
+	/**
+	 * Fetch the DOM of the current page, in one call (see dom-snapshot.js).
+	 */
+	public static DomSnapshot capture() {
+		final long start = System.currentTimeMillis();
+		final Map<?, ?> page = (Map<?, ?>) ((JavascriptExecutor) getDriver())
+				.executeScript(JSComponentHelper.loadScript("dom-snapshot.js"));
+		final DomSnapshot snapshot = parse(String.valueOf(page.get("html")), String.valueOf(page.get("url")));
+		LOGGER.debug(String.format("Snapshot of %s captured in %s ms", snapshot.url,
+				System.currentTimeMillis() - start));
+		return snapshot;
+	}
+
+	/**
+	 * Snapshot of an HTML document, e.g: saved from a page.
+	 */
+	public static DomSnapshot parse(final String html, final String url) {
+		return new DomSnapshot(url, Jsoup.parse(html, url));
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * @return the parsed document, for the queries this class does not offer. Changing it does not change the page.
+	 */
+	public Document getDocument() {
+		return document;
+	}
+
+	public int count(final By locator) {
+		return find(locator).size();
+	}
+
+	public boolean exists(final By locator) {
+		return !find(locator).isEmpty();
+	}
+
+	/**
+	 * @return the text contents of the matching elements, whitespace normalized
+	 */
+	public List<String> texts(final By locator) {
+		return find(locator).stream().map(Match::text).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the attribute of the matching elements as serialized in the HTML, null for the elements without it
+	 */
+	public List<String> attributes(final By locator, final String name) {
+		return find(locator).stream().map(match -> match.attribute(name)).collect(Collectors.toList());
+	}
+
+	private interface Match {
+		String text();
+
+		String attribute(String name);
+	}
+
+	/*
+	 * The CSS selectors are evaluated by jsoup, which differs from the browsers on some syntax (e.g: ~= is a regular
+	 * expression): the other locators are evaluated as XPath, with the same meaning as in the browser.
+	 */
+	private List<Match> find(final By locator) {
+		final String description = locator.toString();
+		final int separator = description.indexOf(": ");
+		if (!description.startsWith("By.") || separator < 0) {
+			throw new IllegalArgumentException(locator + " cannot be queried in a snapshot");
+		}
+		final String value = description.substring(separator + 2);
+		switch (description.substring("By.".length(), separator)) {
+		case "cssSelector":
+			return document.select(value).stream().map(DomSnapshot::match).collect(Collectors.toList());
+		case "xpath":
+			return xpath(value);
+		case "id":
+			return xpath("//*[@id=" + XpathTemplate.literal(value) + "]");
+		case "name":
+			return xpath("//*[@name=" + XpathTemplate.literal(value) + "]");
+		case "className":
+			return xpath("//*[contains(concat(' ', normalize-space(@class), ' '), " + XpathTemplate.literal(
+					" " + value + " ") + ")]");
+		case "tagName":
+			return document.getElementsByTag(value).stream().map(DomSnapshot::match).collect(Collectors.toList());
+		default:
+			throw new IllegalArgumentException(locator + " cannot be queried in a snapshot");
+		}
+	}
+
+	private static Match match(final Element element) {
+		return new Match() {
+			@Override
+			public String text() {
+				return element.text();
+			}
+
+			@Override
+			public String attribute(final String name) {
+				return element.hasAttr(name) ? element.attr(name) : null;
+			}
+		};
+	}
+
+	private List<Match> xpath(final String xpath) {
+		final NodeList nodes;
+		try {
+			nodes = (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, getW3cDocument(),
+					XPathConstants.NODESET);
+		} catch (XPathExpressionException e) {
+			throw new InvalidSelectorException("Invalid XPath " + xpath, e);
+		}
+		final List<Match> matches = new ArrayList<>();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			if (nodes.item(i) instanceof org.w3c.dom.Element) {
+				final org.w3c.dom.Element element = (org.w3c.dom.Element) nodes.item(i);
+				matches.add(new Match() {
+					@Override
+					public String text() {
+						return element.getTextContent().replaceAll("\\s+", " ").trim();
+					}
+
+					@Override
+					public String attribute(final String name) {
+						return element.hasAttribute(name) ? element.getAttribute(name) : null;
+					}
+				});
+			}
+		}
+		return matches;
+	}
+
+	private synchronized org.w3c.dom.Document getW3cDocument() {
+		if (w3cDocument == null) {
+			// the XPath of the locators have no namespace, as in the browser for HTML elements
+			final Document copy = document.clone();
+			copy.select("[xmlns]").removeAttr("xmlns");
+			w3cDocument = new W3CDom().fromJsoup(copy);
+		}
+		return w3cDocument;
+	}
+
+	@Override
+	public String toString() {
+		return "Snapshot of " + url;
+	}
+}
@@ -0,0 +1,150 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+
+/**
+ * Wait for elements inside the page with a MutationObserver (see dom-wait.js) instead of polling over the wire: the
+ * wait costs one round trip whatever its duration. <br>
+ * The browser side wait is only a shortcut: the condition of the wait is then checked once more by polling, which
+ * also takes over for the remaining time when the browser cannot wait (locator without CSS or XPath equivalent,
+ * script timeout, page unloaded during the wait...). Disabled with -D{@value #OBSERVER_PROPERTY}=false.
+ */
+public final class DomWait {
+
+	private static final Log LOGGER = LogFactory.getLog(DomWait.class);
+
+	public static final String OBSERVER_PROPERTY = "webdriver.wait.observer";
+
+	// below the default script timeout of the drivers (30 s), longer waits are split
+	static final long MAX_SCRIPT_MILLIS = 20_000;
+
+	public enum DomCondition {
+		PRESENT, VISIBLE, ABSENT
+	}
+
+	private DomWait() {
+		// to hide constructor
+	}
+
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty(OBSERVER_PROPERTY, "true"));
+	}
+
+	/**
+	 * Wait in the browser until the condition holds for the locator, then wait for the polling condition with the
+	 * remaining time of the wait.
+	 *
+	 * @param pollingCondition the condition checked by polling, equivalent to the DOM condition
+	 */
+	public static <V> V until(final AdaptiveWait<WebDriver> wait, final By locator, final DomCondition condition,
+			final Function<? super WebDriver, V> pollingCondition) {
+		final Duration timeout = wait.getTimeout();
+		if (isEnabled()) {
+			final long start = System.nanoTime();
+			await(locator, condition, timeout);
+			wait.alreadyWaited(Duration.ofNanos(System.nanoTime() - start));
+		}
+		return wait.until(pollingCondition);
+	}
+
+	/**
+	 * @return true if the condition holds, false if it does not hold within the timeout or the browser cannot wait
+	 */
+	public static boolean await(final By locator, final DomCondition condition, final Duration timeout) {
+		final String[] selector = toSelector(locator);
+		if (selector == null || !(getDriver() instanceof JavascriptExecutor)) {
+			return false;
+		}
+		final JavascriptExecutor executor = (JavascriptExecutor) getDriver();
+		final String script = JSComponentHelper.loadScript("dom-wait.js");
+		final long end = System.nanoTime() + timeout.toNanos();
+		try {
+			long remaining = timeout.toMillis();
+			do {
+				final Object holds = executor.executeAsyncScript(script, selector[0], selector[1], condition.name(),
+						Math.min(remaining, MAX_SCRIPT_MILLIS));
+				if (Boolean.TRUE.equals(holds)) {
+					return true;
+				}
+				remaining = TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime());
+			} while (remaining > 0);
+		} catch (ScriptTimeoutException e) {
+			LOGGER.debug(String.format("Script timeout while waiting for %s %s, fall back to polling", locator,
+					condition), e);
+		} catch (WebDriverException e) {
+			// e.g: the page was unloaded during the wait
+			LOGGER.debug(String.format("Cannot wait in the page for %s %s, fall back to polling", locator, condition),
+					e);
+		}
+		return false;
+	}
+
+	/**
+	 * @return the kind ("css" or "xpath") and the selector equivalent to the locator, null if there is none
+	 */
+	static String[] toSelector(final By locator) {
+		final String description = locator.toString();
+		final int separator = description.indexOf(": ");
+		if (!description.startsWith("By.") || separator < 0) {
+			// e.g: ByChained, ByAll
+			return null;
+		}
+		final String type = description.substring("By.".length(), separator);
+		final String value = description.substring(separator + 2);
+		switch (type) {
+		case "cssSelector":
+			return new String[] { "css", value };
+		case "xpath":
+			final String css = XpathCompiler.isEnabled() ? XpathCompiler.toCss(value) : null;
+			return css != null ? new String[] { "css", css } : new String[] { "xpath", value };
+		case "id":
+			return new String[] { "css", "[id=" + quote(value) + "]" };
+		case "name":
+			return new String[] { "css", "[name=" + quote(value) + "]" };
+		case "className":
+			return new String[] { "css", "[class~=" + quote(value) + "]" };
+		case "tagName":
+			return new String[] { "css", value };
+		default:
+			// link texts have no selector
+			return null;
+		}
+	}
+
+	/**
+	 * @return the arguments locating the elements of the locator in a script including locators.js: kind, selector
+	 *         and no element, or the elements found by the driver for the locators without selector
+	 */
+	static Object[] toScriptTarget(final By locator) {
+		final String[] selector = toSelector(locator);
+		return selector != null ? new Object[] { selector[0], selector[1], Collections.emptyList() }
+				: toScriptTarget(getDriver().findElements(locator));
+	}
+
+	/**
+	 * @return the arguments passing the elements to a script including locators.js: empty kind and selector, and the
+	 *         elements
+	 */
+	static Object[] toScriptTarget(final List<WebElement> elements) {
+		return new Object[] { "", "", elements };
+	}
+
+	static String quote(final String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+}
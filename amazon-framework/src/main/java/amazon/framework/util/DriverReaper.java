@@ -0,0 +1,176 @@
+package amazon.framework.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.os.CommandLine;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quit browsers asynchronously so that the calling test does not wait for the browser to close. <br>
+ * Each quit has a deadline ({@value #QUIT_TIMEOUT_PROPERTY}, default 45 seconds). When it is reached, the driver
+ * process of the session is killed so that it does not stay orphaned on the host.
+ */
+public final class DriverReaper {
+
+	private static final Log LOGGER = LogFactory.getLog(DriverReaper.class);
+
+	public static final String QUIT_TIMEOUT_PROPERTY = "webdriver.quit.timeout";
+	public static final String REAPER_THREADS_PROPERTY = "webdriver.reaper.threads";
+
+	private static final DriverReaper INSTANCE = new DriverReaper(Integer.getInteger(REAPER_THREADS_PROPERTY, 2),
+			Long.getLong(QUIT_TIMEOUT_PROPERTY, 45L));
+
+	private final long quitTimeoutInSeconds;
+	private final ExecutorService quitExecutor;
+	private final ScheduledExecutorService deadlineScheduler;
+
+	DriverReaper(final int threads, final long quitTimeoutInSeconds) {
+		this.quitTimeoutInSeconds = quitTimeoutInSeconds;
+		this.quitExecutor = Executors.newFixedThreadPool(threads,
+				new ThreadFactoryBuilder().setNameFormat("webdriver-reaper-%d").setDaemon(true).build());
+		this.deadlineScheduler = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().setNameFormat("webdriver-reaper-deadline").setDaemon(true).build());
+	}
+
+	public static DriverReaper getInstance() {
+		return INSTANCE;
+	}
+
+	public Future<?> reap(final DriverSession session) {
+		return reap(session.getSessionIdentifier(), session.getDriver());
+	}
+
+	/**
+	 * Quit the driver in background.
+	 *
+	 * @param identifier used for logging only
+	 * @return the quit task, already done when the reaper has been shut down
+	 */
+	public Future<?> reap(final String identifier, final WebDriver driver) {
+		LOGGER.info("Reap webDriver for " + identifier);
+		if (quitExecutor.isShutdown()) {
+			// the JVM is shutting down, nobody is waiting for the next browser
+			quit(identifier, driver);
+			return CompletableFuture.completedFuture(null);
+		}
+		return quitExecutor.submit(() -> quit(identifier, driver));
+	}
+
+	/**
+	 * Quit all the given sessions in parallel and wait for all the pending quits, including those submitted before.
+	 * Intended to be called from a shutdown hook.
+	 */
+	public void reapAllAndWait(final Collection<DriverSession> sessions) {
+		final ExecutorService shutdownExecutor = Executors.newCachedThreadPool(
+				new ThreadFactoryBuilder().setNameFormat("webdriver-reaper-shutdown-%d").setDaemon(true).build());
+		for (DriverSession session : sessions) {
+			shutdownExecutor.submit(() -> quit(session.getSessionIdentifier(), session.getDriver()));
+		}
+		shutdownExecutor.shutdown();
+		quitExecutor.shutdown();
+		try {
+			// the deadline of each quit kills stuck drivers, give it some time to do so
+			final long timeout = TimeUnit.SECONDS.toMillis(quitTimeoutInSeconds) + 5_000;
+			final long start = System.currentTimeMillis();
+			shutdownExecutor.awaitTermination(timeout, TimeUnit.MILLISECONDS);
+			quitExecutor.awaitTermination(Math.max(0, timeout - (System.currentTimeMillis() - start)),
+					TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			LOGGER.warn("Interrupted while waiting for drivers to quit", e);
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void quit(final String identifier, final WebDriver driver) {
+		final Thread quitThread = Thread.currentThread();
+		final Object lock = new Object();
+		final boolean[] done = new boolean[1];
+		final ScheduledFuture<?> deadline = deadlineScheduler.schedule(() -> {
+			synchronized (lock) {
+				if (!done[0]) {
+					final Exception exc = new Exception();
+					exc.setStackTrace(quitThread.getStackTrace());
+					LOGGER.warn("Quit of webDriver for " + identifier + " is stuck, kill its driver process", exc);
+					killDriverProcess(driver);
+					quitThread.interrupt();
+				}
+			}
+		}, quitTimeoutInSeconds, TimeUnit.SECONDS);
+		try {
+			driver.quit();
+			LOGGER.info("Quit webDriver successfully for " + identifier);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Could not quit webDriver for " + identifier + ", kill its driver process", e);
+			killDriverProcess(driver);
+		} finally {
+			synchronized (lock) {
+				done[0] = true;
+				deadline.cancel(false);
+				// clear a possible interruption from the deadline, the thread is reused for the next quit
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * Kill the local driver process (chromedriver, geckodriver, ...) started for this driver, if any. Remote drivers
+	 * have no local process and are left to the grid.
+	 */
+	static void killDriverProcess(final WebDriver driver) {
+		final DriverService service = getDriverService(driver);
+		if (service == null) {
+			return;
+		}
+		final CommandLine process = (CommandLine) readField(service, CommandLine.class);
+		if (process != null && process.isRunning()) {
+			LOGGER.info("Kill driver process, exit code " + process.destroy());
+		} else if (service.isRunning()) {
+			service.stop();
+		}
+	}
+
+	/**
+	 * @return the service of the local driver process, null for remote drivers
+	 */
+	static DriverService getDriverService(final WebDriver driver) {
+		if (!(driver instanceof RemoteWebDriver)) {
+			return null;
+		}
+		final CommandExecutor executor = SessionLatencyModel.unwrap(((RemoteWebDriver) driver).getCommandExecutor());
+		return (DriverService) readField(executor, DriverService.class);
+	}
+
+	private static Object readField(final Object target, final Class<?> fieldType) {
+		if (target == null) {
+			return null;
+		}
+		for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				if (fieldType.isAssignableFrom(field.getType())) {
+					try {
+						field.setAccessible(true);
+						return field.get(target);
+					} catch (ReflectiveOperationException | RuntimeException e) {
+						LOGGER.debug("Cannot read " + field, e);
+						return null;
+					}
+				}
+			}
+		}
+		return null;
+	}
+}
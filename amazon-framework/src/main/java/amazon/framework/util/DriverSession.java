@@ -19,11 +19,23 @@ public class DriverSession {
 
 	private String sessionIdentifier;
 	private boolean gridSlow;
+	private final SessionLatencyModel latencyModel;
+	// set by the SessionWatchdog, null while the session is healthy
+	private volatile String healthProblem;
+	// innermost step running on the session, see WaitDeadline
+	private volatile WaitDeadline deadline;
+	private final LocatorCache locatorCache = new LocatorCache();
 
 	public DriverSession(final WebDriver driver, final String identifier, WebDriverKind driverKind) {
+		this(driver, identifier, driverKind, SessionLatencyModel.of(driver));
+	}
+
+	DriverSession(final WebDriver driver, final String identifier, final WebDriverKind driverKind,
+			final SessionLatencyModel latencyModel) {
 		setDriver(driver);
 		setDriverKind(driverKind);
 		setSessionIdentifier(identifier);
+		this.latencyModel = latencyModel;
 	}
 
 	public String getSessionIdentifier() {
@@ -60,8 +72,60 @@ public class DriverSession {
 
 	public void setGridSlow(final boolean gridSlow) {
 		if (gridSlow) {
-			LOGGER.info("Grid flagged as slow");
+			LOGGER.info("Grid flagged as slow: " + latencyModel);
 		}
 		this.gridSlow = gridSlow;
+		latencyModel.setGridSlow(gridSlow);
+	}
+
+	public boolean isGridSlow() {
+		return gridSlow || latencyModel.isSlow();
+	}
+
+	/**
+	 * @return the latency of the browser, which drives the timeouts and polling intervals of the waits
+	 */
+	public SessionLatencyModel getLatencyModel() {
+		return latencyModel;
+	}
+
+	/**
+	 * Flag the session to be recycled before the next test, see {@link SessionWatchdog}.
+	 */
+	public void markUnhealthy(final String problem) {
+		if (healthProblem == null) {
+			LOGGER.warn(String.format("Session %s is unhealthy, it will be recycled before the next test: %s",
+					sessionIdentifier, problem));
+		}
+		this.healthProblem = problem;
+	}
+
+	public boolean isHealthy() {
+		return healthProblem == null;
+	}
+
+	/**
+	 * @return why the session should be recycled, or null if it is healthy
+	 */
+	public String getHealthProblem() {
+		return healthProblem;
+	}
+
+	/**
+	 * @return the innermost step running on the session, null if there is none
+	 */
+	public WaitDeadline getDeadline() {
+		return deadline;
+	}
+
+	void setDeadline(final WaitDeadline deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * @return the elements found on the browser of the session, valid until its DOM changes
+	 */
+	public LocatorCache getLocatorCache() {
+		return locatorCache;
 	}
 }
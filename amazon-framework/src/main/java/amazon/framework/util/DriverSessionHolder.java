@@ -5,84 +5,120 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openqa.selenium.WebDriver;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
+/**
+ * Keep the {@link DriverSession} of the current thread. Each worker thread drives its own browser, so several tests
+ * can run in parallel in the same JVM. <br>
+ * All sessions set through this holder are also kept in a registry until they are reset by the thread which set them,
+ * so that they can be cleaned up from another thread (e.g. a shutdown hook). A child thread inheriting the session of
+ * its parent never unregisters it.
+ */
 public class DriverSessionHolder {
 
 	private static final Log LOGGER = LogFactory.getLog(DriverSessionHolder.class);
 
+	/**
+	 * System property to disable the inheritance of the session by child threads (default true).
+	 */
+	public static final String INHERITABLE_PROPERTY = "driver.session.inheritable";
+
 	// must use an inheritable thread local if using timeout attribute of @Test
-	private static DriverSession driverSession;
+	private static final ThreadLocal<DriverSession> driverSession =
+			Boolean.parseBoolean(System.getProperty(INHERITABLE_PROPERTY, "true"))
+					? new InheritableThreadLocal<>()
+					: new ThreadLocal<>();
+
+	// thread which set each registered session
+	private static final Map<DriverSession, Thread> liveSessions = new ConcurrentHashMap<>();
 
 	public static void setDriver(final WebDriver driver, final String identifier, WebDriverKind driverKind) {
-		LOGGER.info("Set webDriver in threadlocal for " + identifier );
-		driverSession = new DriverSession(driver, identifier, driverKind);
+		setDriverSession(new DriverSession(driver, identifier, driverKind));
+	}
+
+	public static void setDriverSession(final DriverSession session) {
+		LOGGER.info("Set webDriver in threadlocal for " + session.getSessionIdentifier());
+		final DriverSession previous = driverSession.get();
+		if (previous != null && previous != session) {
+			liveSessions.remove(previous, Thread.currentThread());
+		}
+		driverSession.set(session);
+		liveSessions.putIfAbsent(session, Thread.currentThread());
 	}
 
 	public static WebDriver getDriver() {
-		assertThat(driverSession).isNotNull();
-		return driverSession.getDriver();
+		assertThat(driverSession.get()).isNotNull();
+		return driverSession.get().getDriver();
 	}
 
 	public static WebDriverKind getDriverKind() {
-		assertThat(driverSession).isNotNull();
-		return driverSession.getDriverKind();
+		assertThat(driverSession.get()).isNotNull();
+		return driverSession.get().getDriverKind();
 	}
 
 	public static String getSessionIdentifier() {
-		assertThat(driverSession).isNotNull();
-		return driverSession.getSessionIdentifier();
+		assertThat(driverSession.get()).isNotNull();
+		return driverSession.get().getSessionIdentifier();
 	}
 
 	public static void setSessionIdentifier(String identifier) {
-		assertThat(driverSession).isNotNull();
-		driverSession.setSessionIdentifier(identifier);
+		assertThat(driverSession.get()).isNotNull();
+		driverSession.get().setSessionIdentifier(identifier);
 	}
 
 	public static void resetCookies() {
-		assertThat(driverSession).isNotNull();
-		driverSession.resetCookies();
+		assertThat(driverSession.get()).isNotNull();
+		driverSession.get().resetCookies();
 	}
 
 	public static DriverSession getDriverSession() {
-		return driverSession;
+		return driverSession.get();
+	}
+
+	/**
+	 * @return a snapshot of all the sessions currently registered, whatever the thread owning them
+	 */
+	public static List<DriverSession> getDriverSessions() {
+		return Collections.unmodifiableList(new ArrayList<>(liveSessions.keySet()));
 	}
 
+	/**
+	 * Forget the session of the current thread, and unregister it if the current thread set it.
+	 */
 	public static void reset() {
 		LOGGER.info("Remove webDriver from threadlocal");
-		driverSession = null;
+		final DriverSession session = driverSession.get();
+		if (session != null) {
+			liveSessions.remove(session, Thread.currentThread());
+		}
+		driverSession.remove();
+	}
+
+	/**
+	 * Forget the session of the current thread without unregistering it, e.g. the session inherited from the parent
+	 * thread by a worker thread which must drive its own browser.
+	 */
+	public static void detach() {
+		driverSession.remove();
 	}
 
+	/**
+	 * Quit the driver of the current thread in background, see {@link DriverReaper}. The session stays set until
+	 * {@link #reset()} is called.
+	 */
 	public static void quitDriver() {
 		LOGGER.info("Quit webDriver for " + getSessionIdentifier());
-		Thread quitThread = null;
-		quitThread = new Thread(new Runnable() {
-			@Override
-			public void run() {
-				getDriver().quit();
-			}
-		});
-		quitThread.start();
-		try {
-			quitThread.join(45000); // This will wait max (param) seconds that the quit thread finishes
-		} catch (InterruptedException e) {
-			LOGGER.warn("Quit thread was interrupted", e);
-		}
-
-		if (quitThread.isAlive()) {
-			// The quit thread is still alive, try to interrupt it and continue main thread
-			final Exception exc = new Exception();
-			exc.setStackTrace(quitThread.getStackTrace());
-			LOGGER.warn("Quit thread is stuck", exc);
-			quitThread.interrupt();
-		} else {
-			// The quit thread is finished
-			LOGGER.info("Quit webDriver successfully.");
-		}
+		DriverReaper.getInstance().reap(driverSession.get());
 	}
 
 	public static boolean hasDriverSessionSet() {
-		return driverSession != null;
+		return driverSession.get() != null;
 	}
 
 }
@@ -0,0 +1,140 @@
+package amazon.framework.util;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+
+/**
+ * Text, visibility, size and attributes of an element, read together with all the other matches of the locator in one
+ * script (see element-snapshot.js) instead of one round trip per element and per property. <br>
+ * The values are read at once: they do not follow later changes of the page.
+ */
+public final class ElementSnapshot {
+
+	/**
+	 * Attribute name to read all the HTML attributes of the elements.
+	 */
+	public static final String ALL_ATTRIBUTES = "*";
+
+	private final WebElement element;
+	private final String text;
+	private final boolean displayed;
+	private final boolean enabled;
+	private final double width;
+	private final double height;
+	private final Map<String, String> attributes;
+
+	private ElementSnapshot(final Map<?, ?> values) {
+		this.element = (WebElement) values.get("element");
+		this.text = String.valueOf(values.get("text"));
+		this.displayed = Boolean.TRUE.equals(values.get("displayed"));
+		this.enabled = Boolean.TRUE.equals(values.get("enabled"));
+		this.width = ((Number) values.get("width")).doubleValue();
+		this.height = ((Number) values.get("height")).doubleValue();
+		final Map<String, String> read = new HashMap<>();
+		final Object attributeValues = values.get("attributes");
+		if (attributeValues instanceof Map) {
+			((Map<?, ?>) attributeValues).forEach(
+					(name, value) -> read.put(String.valueOf(name), value != null ? String.valueOf(value) : null));
+		}
+		this.attributes = Collections.unmodifiableMap(read);
+	}
+
+	/**
+	 * Snapshot of all the elements of the locator, in one round trip (two for locators without CSS or XPath
+	 * equivalent).
+	 *
+	 * @param attributes names of the attributes to read, or {@link #ALL_ATTRIBUTES}
+	 */
+	public static List<ElementSnapshot> of(final By locator, final String... attributes) {
+		return read(DomWait.toScriptTarget(locator), attributes);
+	}
+
+	/**
+	 * Snapshot of the elements, in one round trip.
+	 *
+	 * @param attributes names of the attributes to read, or {@link #ALL_ATTRIBUTES}
+	 */
+	public static List<ElementSnapshot> of(final List<WebElement> elements, final String... attributes) {
+		if (elements.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return read(DomWait.toScriptTarget(elements), attributes);
+	}
+
+	/**
+	 * @return the texts of the elements, as {@link WebElement#getText()}
+	 */
+	public static List<String> texts(final List<WebElement> elements) {
+		return of(elements).stream().map(ElementSnapshot::getText).collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the texts of the elements of the locator, as {@link WebElement#getText()}
+	 */
+	public static List<String> texts(final By locator) {
+		return of(locator).stream().map(ElementSnapshot::getText).collect(Collectors.toList());
+	}
+
+	private static List<ElementSnapshot> read(final Object[] target, final String... attributes) {
+		final Object snapshots = ((JavascriptExecutor) getDriver()).executeScript(
+				JSComponentHelper.loadScript("element-snapshot.js"), target[0], target[1], target[2],
+				Arrays.asList(attributes));
+		return ((List<?>) snapshots).stream().map(values -> new ElementSnapshot((Map<?, ?>) values))
+				.collect(Collectors.toList());
+	}
+
+	public WebElement getElement() {
+		return element;
+	}
+
+	/**
+	 * @return the rendered text, trimmed, empty if the element is not displayed
+	 */
+	public String getText() {
+		return text;
+	}
+
+	public boolean isDisplayed() {
+		return displayed;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return true if the element has a width and a height
+	 */
+	public boolean hasSize() {
+		return width > 0 && height > 0;
+	}
+
+	/**
+	 * @return the value of an attribute read with the snapshot, as {@link WebElement#getAttribute(String)}
+	 */
+	public String getAttribute(final String name) {
+		return attributes.get(name);
+	}
+
+	/**
+	 * @return the attributes read with the snapshot
+	 */
+	public Map<String, String> getAttributes() {
+		return attributes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("'%s' (displayed=%s, enabled=%s, attributes=%s)", text, displayed, enabled, attributes);
+	}
+}
@@ -0,0 +1,44 @@
+package amazon.framework.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with full jitter: the n-th delay is a random value between 0 and
+ * min(maxDelay, initialDelay * 2^(n-1)). The jitter avoids that several workers retry at the same time.
+ */
+public class ExponentialBackoff {
+
+	private final long initialDelayMillis;
+	private final long maxDelayMillis;
+
+	public ExponentialBackoff(final long initialDelayMillis, final long maxDelayMillis) {
+		this.initialDelayMillis = initialDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+	}
+
+	/**
+	 * @param attempt number of the failed attempt, starting at 1
+	 * @return the upper bound of the delay before the next attempt
+	 */
+	public long getMaxDelayMillis(final int attempt) {
+		final int shift = Math.min(Math.max(attempt - 1, 0), 30);
+		return Math.min(maxDelayMillis, initialDelayMillis << shift);
+	}
+
+	/**
+	 * @param attempt number of the failed attempt, starting at 1
+	 * @return the delay to wait before the next attempt
+	 */
+	public long getDelayMillis(final int attempt) {
+		return ThreadLocalRandom.current().nextLong(getMaxDelayMillis(attempt) + 1);
+	}
+
+	/**
+	 * Sleep for the jittered delay of the given attempt.
+	 *
+	 * @throws InterruptedException if the thread is interrupted while sleeping
+	 */
+	public void sleep(final int attempt) throws InterruptedException {
+		Thread.sleep(getDelayMillis(attempt));
+	}
+}
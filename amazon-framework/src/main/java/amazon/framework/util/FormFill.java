@@ -0,0 +1,113 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+
+/**
+ * Fill several fields of a form at once: the values are set through the native setters of the fields with input and
+ * change events (see form-fill.js), then verified together in one more script. Only the fields which reject the scripted
+ * input, or whose value was changed by the page, are typed with real keystrokes by
+ * {@link WebElementHelper#sendKeysAndCheckLocated(By, String)}. <br>
+ * Ex: FormFill.fill(ImmutableMap.of(usernameLocator, login, passwordLocator, password))
+ */
+public final class FormFill {
+
+	private static final Log LOGGER = LogFactory.getLog(FormFill.class);
+
+	private static final String OK = "ok";
+
+	private FormFill() {
+		// to hide constructor
+	}
+
+	/**
+	 * Wait for all the fields, then fill them in the order of the map. Default timeout tuned by
+	 * {@link WaitCategory#RENDER}.
+	 *
+	 * @return the fields typed with keystrokes
+	 */
+	public static List<By> fill(final Map<By, String> values) {
+		if (!values.isEmpty()) {
+			WebElementHelper.waitForCondition(allPresent(values), WaitCategory.RENDER);
+		}
+		return fillPresent(values);
+	}
+
+	/**
+	 * Wait for all the fields, then fill them in the order of the map.
+	 *
+	 * @return the fields typed with keystrokes
+	 */
+	public static List<By> fill(final Map<By, String> values, final long timeout) {
+		if (!values.isEmpty()) {
+			WebElementHelper.waitForCondition(allPresent(values), timeout);
+		}
+		return fillPresent(values);
+	}
+
+	private static PageCondition allPresent(final Map<By, String> values) {
+		return PageCondition.allOf(values.keySet().stream().map(PageCondition::present).toArray(PageCondition[]::new));
+	}
+
+	private static List<By> fillPresent(final Map<By, String> values) {
+		final List<By> scripted = new ArrayList<>();
+		final List<By> typed = new ArrayList<>();
+		final List<Map<String, String>> fields = new ArrayList<>();
+		for (Map.Entry<By, String> value : values.entrySet()) {
+			final String[] selector = DomWait.toSelector(value.getKey());
+			if (selector == null || !(getDriver() instanceof JavascriptExecutor)) {
+				typed.add(value.getKey());
+				continue;
+			}
+			final Map<String, String> field = new HashMap<>();
+			field.put("kind", selector[0]);
+			field.put("selector", selector[1]);
+			field.put("value", value.getValue());
+			fields.add(field);
+			scripted.add(value.getKey());
+		}
+
+		if (!fields.isEmpty()) {
+			try {
+				final List<?> filled = run(fields, true);
+				// checked once more after the round trip: some pages reformat or reset the values asynchronously
+				final List<?> verified = run(fields, false);
+				for (int i = 0; i < scripted.size(); i++) {
+					if (!OK.equals(filled.get(i)) || !OK.equals(verified.get(i))) {
+						LOGGER.info(String.format("%s rejected the scripted input (%s), type it", scripted.get(i),
+								OK.equals(filled.get(i)) ? verified.get(i) : filled.get(i)));
+						typed.add(scripted.get(i));
+					}
+				}
+			} catch (WebDriverException e) {
+				LOGGER.info("Cannot fill the form by script, type all the fields", e);
+				typed.addAll(scripted);
+			}
+		}
+
+		// in the order of the form, the page may react to the fields typed first
+		final List<By> keystrokes = new ArrayList<>();
+		for (By locator : values.keySet()) {
+			if (typed.contains(locator)) {
+				WebElementHelper.sendKeysAndCheckLocated(locator, values.get(locator));
+				keystrokes.add(locator);
+			}
+		}
+		return keystrokes;
+	}
+
+	private static List<?> run(final List<Map<String, String>> fields, final boolean apply) {
+		return (List<?>) ((JavascriptExecutor) getDriver()).executeScript(JSComponentHelper.loadScript("form-fill.js"),
+				fields, apply);
+	}
+}
@@ -1,5 +1,6 @@
 package amazon.framework.util;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -7,6 +8,15 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ObjectAssert;
 import org.openqa.selenium.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import static amazon.framework.util.DriverSessionHolder.getDriver;
 
 /**
@@ -14,6 +24,10 @@ import static amazon.framework.util.DriverSessionHolder.getDriver;
  */
 public class JSComponentHelper {
 	private static final Log LOGGER = LogFactory.getLog(JSComponentHelper.class);
+	private static final Map<String, String> SCRIPTS = new ConcurrentHashMap<>();
+	// a line of a script replaced by the content of another script, e.g: the functions shared by several scripts
+	private static final Pattern INCLUDE = Pattern.compile("^// include (\\S+)$", Pattern.MULTILINE);
+
 	public static String getValueJS(final String id) {
 		if (StringUtils.isNotBlank(id)) {
 			return String.valueOf(excuteJavaScript("return document.getElementById('" + id + "').value;"));
@@ -64,6 +78,34 @@ public class JSComponentHelper {
 
 	}
 
+	/**
+	 * Read a script shipped with the framework, loaded once. Each line "// include other.js" of the script is replaced
+	 * by the content of that script.
+	 *
+	 * @param name file name in the package amazon/framework/js, e.g: dom-wait.js
+	 */
+	public static String loadScript(final String name) {
+		return SCRIPTS.computeIfAbsent(name, JSComponentHelper::readScript);
+	}
+
+	private static String readScript(final String name) {
+		final String script;
+		try (InputStream in = JSComponentHelper.class.getResourceAsStream("/amazon/framework/js/" + name)) {
+			if (in == null) {
+				throw new IllegalArgumentException("No script " + name);
+			}
+			script = IOUtils.toString(in, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		final Matcher include = INCLUDE.matcher(script);
+		final StringBuffer resolved = new StringBuffer(script.length());
+		while (include.find()) {
+			include.appendReplacement(resolved, Matcher.quoteReplacement(readScript(include.group(1))));
+		}
+		return include.appendTail(resolved).toString();
+	}
+
 	public static String getId(WebElement webElement) {
 		Assertions.assertThat(webElement).isNotNull();
 		return webElement.getAttribute("id");
@@ -90,6 +132,7 @@ public class JSComponentHelper {
 		LOGGER.info(String.format("Button id [%s]", id));
 		if (StringUtils.isNotBlank(id)) {
 			LOGGER.info(String.format("Click by JavaScript on button id [%s]", id));
+			NetworkIdleTracker.install();
 			excuteJavaScript("return document.getElementById('" + id + "').click();");
 		}
 	}
@@ -126,8 +169,9 @@ public class JSComponentHelper {
 	}
 
 	public static void click(By locator) {
-		JavascriptExecutor executor = (JavascriptExecutor) getDriver();
-		executor.executeScript("arguments[0].click()", getDriver().findElement(locator));
+		final WebElement element = getDriver().findElement(locator);
+		NetworkIdleTracker.install();
+		((JavascriptExecutor) getDriver()).executeScript("arguments[0].click()", element);
 	}
 	
 	public static void sendMouseDownEvent(WebElement element) {
@@ -0,0 +1,99 @@
+package amazon.framework.util;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+
+/**
+ * Element of a list (dropdown options, result lists...) matched by its label in the browser (see label-match.js): one
+ * round trip returns the matching element together with the labels of all the candidates, for the error message when
+ * none matches. <br>
+ * The label of an element is its rendered text, as {@link WebElement#getText()}; each of its lines is compared.
+ */
+public final class LabelMatch {
+
+	public enum Mode {
+		EXACT, CONTAINS, EXACT_IGNORE_CASE, CONTAINS_IGNORE_CASE
+	}
+
+	private final String label;
+	private final Mode mode;
+	private final WebElement element;
+	private final List<String> labels;
+
+	private LabelMatch(final String label, final Mode mode, final Map<?, ?> result) {
+		this.label = label;
+		this.mode = mode;
+		this.element = (WebElement) result.get("element");
+		this.labels = Collections.unmodifiableList(((List<?>) result.get("labels")).stream().map(String::valueOf)
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Match the label among the elements of the locator, in one round trip (two for locators without CSS or XPath
+	 * equivalent).
+	 */
+	public static LabelMatch of(final By locator, final String label, final Mode mode) {
+		return match(DomWait.toScriptTarget(locator), label, mode);
+	}
+
+	/**
+	 * Match the label among the elements, in one round trip.
+	 */
+	public static LabelMatch of(final List<WebElement> elements, final String label, final Mode mode) {
+		if (elements.isEmpty()) {
+			return new LabelMatch(label, mode, Collections.singletonMap("labels", Collections.emptyList()));
+		}
+		return match(DomWait.toScriptTarget(elements), label, mode);
+	}
+
+	private static LabelMatch match(final Object[] target, final String label, final Mode mode) {
+		final Object result = ((JavascriptExecutor) getDriver()).executeScript(
+				JSComponentHelper.loadScript("label-match.js"), target[0], target[1], target[2], label, mode.name());
+		return new LabelMatch(label, mode, (Map<?, ?>) result);
+	}
+
+	/**
+	 * @return the first matching element, null if none matches
+	 */
+	public WebElement getElement() {
+		return element;
+	}
+
+	/**
+	 * @return the first matching element
+	 * @throws NotFoundException listing the labels of the candidates if none matches
+	 */
+	public WebElement getElementStrong() {
+		if (element == null) {
+			throw new NotFoundException(String.format(
+					"No web element found with text='%s' (%s) in the list of following web elements : %s", label,
+					mode, labels.stream().map(text -> "'" + text + "'").collect(Collectors.joining(", "))));
+		}
+		return element;
+	}
+
+	public boolean isFound() {
+		return element != null;
+	}
+
+	/**
+	 * @return the labels of all the candidates, in document order
+	 */
+	public List<String> getLabels() {
+		return labels;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("'%s' (%s) %s among %s", label, mode, isFound() ? "found" : "not found", labels);
+	}
+}
@@ -1,5 +1,7 @@
 package amazon.framework.util;
 
+import java.time.Duration;
+
 /**
  * Constants define the expected loading timeout of components. For complex components, we could compare to standard
  * component, then we may multiple the timeout.
@@ -9,9 +11,77 @@ public final class LoadingConstants {
 		// to hide constructor
 	}
 
+	public static final String AUTOTUNE_PROPERTY = "webdriver.wait.autotune";
+	public static final String AUTOTUNE_FACTOR_PROPERTY = "webdriver.wait.autotune.factor";
+
+	// below, the percentiles of the history are not reliable enough to shorten a timeout
+	static final int AUTOTUNE_MIN_SAMPLES = 100;
+	static final long AUTOTUNE_MIN_TIMEOUT = 10L;
+	// above, the tuned timeout is too short for this run
+	static final double AUTOTUNE_MAX_TIMEOUT_RATE = 0.05;
+
 	public static final long RENDER_ELEMENT = 60L;
 	public static final long RENDER_ELEMENT_LONG_TIMEOUT = 120L;
 	public static final long UPDATE_BUTTON = 60L;
 	public static final long LOADING_TIMEOUT = 120L;
 	public static final long LOADING_POLLING = 2L;
+	public static final long NETWORK_QUIET_MILLIS = 500L;
+	public static final long PAGE_LOAD = 60L;
+
+	/**
+	 * The timeout of the category, tuned from the history of the waits ({@link WaitTelemetry}): once
+	 * {@value #AUTOTUNE_MIN_SAMPLES} successful waits are known, p99 x {@value #AUTOTUNE_FACTOR_PROPERTY} (default 3),
+	 * between {@value #AUTOTUNE_MIN_TIMEOUT} seconds and the nominal timeout of the category. A tuned timeout is never
+	 * longer than the nominal one: it only makes the waits which will not succeed fail sooner. The timed out waits are
+	 * not part of the percentiles: once more than {@value #AUTOTUNE_MAX_TIMEOUT_RATE} of the waits of the category
+	 * timed out in this run, the category is back to its nominal timeout. Disabled with
+	 * -D{@value #AUTOTUNE_PROPERTY}=false.
+	 *
+	 * @return the timeout in seconds, before adaptation to the latency ({@link #adapt(long)})
+	 */
+	public static long timeout(final WaitCategory category) {
+		final long nominal = category.getNominalTimeout();
+		if (!isTuned(category)) {
+			return nominal;
+		}
+		final double factor = Double.parseDouble(System.getProperty(AUTOTUNE_FACTOR_PROPERTY, "3"));
+		final long tuned = (long) Math.ceil(WaitTelemetry.getPercentile(category, 99) * factor / 1000);
+		return Math.min(nominal, Math.max(AUTOTUNE_MIN_TIMEOUT, tuned));
+	}
+
+	/**
+	 * @return the polling interval adapted to the latency, no longer than a quarter of the median wait of the category
+	 *         once it is tuned
+	 */
+	public static Duration pollingInterval(final WaitCategory category) {
+		final Duration interval = pollingInterval();
+		if (!isTuned(category)) {
+			return interval;
+		}
+		final Duration quarterOfMedian = Duration.ofMillis(Math.max(50, WaitTelemetry.getPercentile(category, 50) / 4));
+		return interval.compareTo(quarterOfMedian) < 0 ? interval : quarterOfMedian;
+	}
+
+	private static boolean isTuned(final WaitCategory category) {
+		return category.isTunable() && Boolean.parseBoolean(System.getProperty(AUTOTUNE_PROPERTY, "true"))
+				&& WaitTelemetry.getSuccessCount(category) >= AUTOTUNE_MIN_SAMPLES
+				&& WaitTelemetry.getRunTimeoutRate(category) <= AUTOTUNE_MAX_TIMEOUT_RATE;
+	}
+
+	/**
+	 * @return the timeout adapted to the latency of the browser of the current thread, see
+	 *         {@link SessionLatencyModel#scaleTimeout(long)}
+	 */
+	public static long adapt(final long timeoutInSeconds) {
+		final DriverSession session = DriverSessionHolder.getDriverSession();
+		return session != null ? session.getLatencyModel().scaleTimeout(timeoutInSeconds) : timeoutInSeconds;
+	}
+
+	/**
+	 * @return the polling interval adapted to the latency of the browser of the current thread
+	 */
+	public static Duration pollingInterval() {
+		final DriverSession session = DriverSessionHolder.getDriverSession();
+		return session != null ? session.getLatencyModel().getPollingInterval() : Duration.ofMillis(500);
+	}
 }
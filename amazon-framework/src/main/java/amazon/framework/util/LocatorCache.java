@@ -0,0 +1,117 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elements found per locator on the browser of a {@link DriverSession}, valid as long as the DOM does not change. The
+ * page tracks its mutations (see dom-generation.js): each lookup checks the generation of the DOM and, when it
+ * changed, finds the elements again in the same script. A lookup costs one round trip either way, a hit saves the
+ * evaluation of the locator in the page and the transfer of the element references. Another window or frame has its
+ * own generation, so switching never serves elements of the previous one. <br>
+ * Locators without CSS or XPath equivalent (link texts, chained locators) are always found through the driver. Disabled
+ * with -D{@value #CACHE_PROPERTY}=false.
+ */
+public class LocatorCache {
+
+	private static final Log LOGGER = LogFactory.getLog(LocatorCache.class);
+
+	public static final String CACHE_PROPERTY = "webdriver.locator.cache";
+
+	private static final AtomicLong TOTAL_HITS = new AtomicLong();
+	private static final AtomicLong TOTAL_MISSES = new AtomicLong();
+	private static final AtomicLong TOTAL_BYPASSED = new AtomicLong();
+
+	private final Map<By, List<WebElement>> elements = new HashMap<>();
+	// generation of the DOM when the cached elements were found
+	private String generation;
+
+	private long hits;
+	private long misses;
+	private long bypassed;
+
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty(CACHE_PROPERTY, "true"));
+	}
+
+	/**
+	 * Same as {@link WebDriver#findElements(By)}.
+	 */
+	public synchronized List<WebElement> findElements(final WebDriver driver, final By locator) {
+		final String[] selector = DomWait.toSelector(locator);
+		if (!isEnabled() || selector == null || !(driver instanceof JavascriptExecutor)) {
+			bypassed++;
+			TOTAL_BYPASSED.incrementAndGet();
+			return driver.findElements(XpathCompiler.optimize(locator));
+		}
+		final List<WebElement> cached = elements.get(locator);
+		final Map<?, ?> result;
+		try {
+			result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(
+					JSComponentHelper.loadScript("dom-generation.js"), cached != null ? generation : null, selector[0],
+					selector[1]);
+		} catch (WebDriverException e) {
+			// e.g: invalid selector, or the page is being unloaded: the driver tells what is wrong
+			LOGGER.debug("Cannot find " + locator + " by script, find it through the driver", e);
+			bypassed++;
+			TOTAL_BYPASSED.incrementAndGet();
+			return driver.findElements(locator);
+		}
+		final String current = String.valueOf(result.get("generation"));
+		if (cached != null && result.get("elements") == null) {
+			hits++;
+			TOTAL_HITS.incrementAndGet();
+			return new ArrayList<>(cached);
+		}
+		misses++;
+		TOTAL_MISSES.incrementAndGet();
+		if (!current.equals(generation)) {
+			// the elements found with an older generation will never be valid again
+			elements.clear();
+			generation = current;
+		}
+		final List<WebElement> found = new ArrayList<>();
+		for (Object element : (List<?>) result.get("elements")) {
+			found.add((WebElement) element);
+		}
+		elements.put(locator, Collections.unmodifiableList(found));
+		return found;
+	}
+
+	/**
+	 * @return the share of the lookups served from the cache, between 0 and 1
+	 */
+	public synchronized double getHitRate() {
+		return rate(hits, misses + bypassed);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return summary(hits, misses, bypassed);
+	}
+
+	public static void logSummary() {
+		LOGGER.info("[LOCATOR_CACHE] " + summary(TOTAL_HITS.get(), TOTAL_MISSES.get(), TOTAL_BYPASSED.get()));
+	}
+
+	private static String summary(final long hits, final long misses, final long bypassed) {
+		return String.format("%s hits, %s misses, %s lookups through the driver, hit rate %.1f %%", hits, misses,
+				bypassed, 100 * rate(hits, misses + bypassed));
+	}
+
+	private static double rate(final long hits, final long others) {
+		return hits + others == 0 ? 0 : (double) hits / (hits + others);
+	}
+}
@@ -0,0 +1,113 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+
+/**
+ * Tracker of the pending fetch/XHR requests and of the short timers (up to 2 s) of the page, injected by
+ * network-idle.js. The page is idle when its document is complete and nothing was pending for a quiet period. The
+ * recurring work of the page is not waited for: timers rescheduled by a chain of timers, and requests pending for more
+ * than 10 s (long polling). <br>
+ * The tracker is injected by the first call on a document: requests started before are not seen. The click and select
+ * helpers call {@link #install()} before acting, call it before any other action which does not reload the page to
+ * track all the requests it triggers.
+ */
+public final class NetworkIdleTracker {
+
+	private static final Log LOGGER = LogFactory.getLog(NetworkIdleTracker.class);
+
+	private NetworkIdleTracker() {
+		// to hide constructor
+	}
+
+	/**
+	 * Inject the tracker in the current document, if not already done. Called by the click and select helpers before
+	 * acting, so that the requests triggered by the action are tracked: the requests already pending when the tracker
+	 * is injected are not seen, the browsers list them only once finished (Resource Timing).
+	 */
+	public static void install() {
+		try {
+			getState();
+		} catch (WebDriverException e) {
+			LOGGER.debug("Cannot track the requests of the page", e);
+		}
+	}
+
+	/**
+	 * @return readyState, requests (pending requests), timers (pending timers) and idleMillis (time since the last
+	 *         activity, 0 while something is pending)
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> getState() {
+		return (Map<String, Object>) ((JavascriptExecutor) getDriver())
+				.executeScript(JSComponentHelper.loadScript("network-idle.js"), 0, 0);
+	}
+
+	/**
+	 * Wait until the page is idle for the quiet period, with the timeout of {@link WaitCategory#LOADING}. Best effort,
+	 * see {@link #waitForIdle(long, long)}.
+	 */
+	public static void waitForIdle(final long quietMillis) {
+		waitForIdle(quietMillis, WebdriverHelper.newWait(WaitCategory.LOADING));
+	}
+
+	/**
+	 * Wait until the page is idle for the quiet period. The wait runs inside the page, with a fall back to polling.
+	 * Best effort: some pages are never idle, the timeout is logged and the test continues, its own waits tell whether
+	 * the page is usable.
+	 */
+	public static void waitForIdle(final long quietMillis, final long timeoutInSeconds) {
+		waitForIdle(quietMillis, WebdriverHelper.newWait(timeoutInSeconds));
+	}
+
+	private static void waitForIdle(final long quietMillis, final AdaptiveWait<WebDriver> wait) {
+		wait.withMessage(() -> "Page not idle for " + quietMillis + " ms: " + describeState());
+		final long start = System.nanoTime();
+		final long timeoutMillis = wait.getTimeout().toMillis();
+		final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		final String script = JSComponentHelper.loadScript("network-idle.js");
+		try {
+			long remaining = timeoutMillis;
+			do {
+				final Object idle = ((JavascriptExecutor) getDriver()).executeAsyncScript(script, quietMillis,
+						Math.min(remaining, DomWait.MAX_SCRIPT_MILLIS));
+				if (Boolean.TRUE.equals(idle)) {
+					// checked once more below, which also records the duration of the wait
+					break;
+				}
+				remaining = TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime());
+			} while (remaining > 0);
+		} catch (WebDriverException e) {
+			// e.g: script timeout, or a navigation unloaded the page during the wait
+			LOGGER.debug("Cannot wait in the page for network idle, fall back to polling", e);
+		}
+		wait.alreadyWaited(Duration.ofNanos(System.nanoTime() - start)).ignoring(WebDriverException.class);
+		try {
+			wait.until(driver -> {
+				final Map<String, Object> state = getState();
+				return "complete".equals(state.get("readyState"))
+						&& ((Number) state.get("idleMillis")).longValue() >= quietMillis;
+			});
+		} catch (TimeoutException e) {
+			LOGGER.warn("Continue test: " + e.getMessage().split("\n")[0]);
+		}
+	}
+
+	private static String describeState() {
+		try {
+			return String.valueOf(getState());
+		} catch (WebDriverException e) {
+			return "unknown state, " + e.getClass().getSimpleName();
+		}
+	}
+}
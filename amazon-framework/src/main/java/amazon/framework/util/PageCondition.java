@@ -0,0 +1,262 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Condition over the page combining locators, texts, attributes, URL and title with any-of, all-of and none-of. The
+ * whole condition is evaluated in one script (see page-condition.js): a poll costs one round trip whatever the number
+ * of locators. <br>
+ * As a wait condition, returns the matched branch: the child of {@link #anyOf(PageCondition...)} which holds (the
+ * first one), or the condition itself, null while the condition does not hold. E.g:
+ *
+ * <pre>
+ * PageCondition matched = wait.until(anyOf(present(confirmation), visible(errorMessage)));
+ * </pre>
+ *
+ * A condition with a locator without CSS or XPath equivalent (link texts, chained locators) is evaluated through the
+ * driver, one call per locator.
+ */
+public abstract class PageCondition implements Function<WebDriver, PageCondition> {
+
+	private static final Log LOGGER = LogFactory.getLog(PageCondition.class);
+
+	enum Type {
+		PRESENT, VISIBLE, TEXT_CONTAINS, ATTRIBUTE_CONTAINS, URL_CONTAINS, TITLE_CONTAINS, ANY, ALL, NONE
+	}
+
+	final Type type;
+
+	PageCondition(final Type type) {
+		this.type = type;
+	}
+
+	public static PageCondition present(final By locator) {
+		return new Leaf(Type.PRESENT, locator, null, null);
+	}
+
+	public static PageCondition visible(final By locator) {
+		return new Leaf(Type.VISIBLE, locator, null, null);
+	}
+
+	/**
+	 * An element of the locator has a visible text containing the text.
+	 */
+	public static PageCondition textContains(final By locator, final String text) {
+		return new Leaf(Type.TEXT_CONTAINS, locator, null, text);
+	}
+
+	/**
+	 * An element of the locator has an attribute containing the value. Unlike {@link WebElement#getAttribute(String)},
+	 * only the HTML attribute is read, not the property of the same name.
+	 */
+	public static PageCondition attributeContains(final By locator, final String attribute, final String value) {
+		return new Leaf(Type.ATTRIBUTE_CONTAINS, locator, attribute, value);
+	}
+
+	public static PageCondition urlContains(final String text) {
+		return new Leaf(Type.URL_CONTAINS, null, null, text);
+	}
+
+	public static PageCondition titleContains(final String text) {
+		return new Leaf(Type.TITLE_CONTAINS, null, null, text);
+	}
+
+	public static PageCondition anyOf(final PageCondition... conditions) {
+		return new Composite(Type.ANY, conditions);
+	}
+
+	public static PageCondition allOf(final PageCondition... conditions) {
+		return new Composite(Type.ALL, conditions);
+	}
+
+	public static PageCondition noneOf(final PageCondition... conditions) {
+		return new Composite(Type.NONE, conditions);
+	}
+
+	/**
+	 * Any of the locators is present.
+	 */
+	public static PageCondition anyPresent(final By... locators) {
+		return anyOf(Arrays.stream(locators).map(PageCondition::present).toArray(PageCondition[]::new));
+	}
+
+	@Override
+	public PageCondition apply(final WebDriver driver) {
+		if (driver instanceof JavascriptExecutor && isCompilable()) {
+			try {
+				final Object path = ((JavascriptExecutor) driver)
+						.executeScript(JSComponentHelper.loadScript("page-condition.js"), toScriptArgument());
+				return path instanceof List ? follow((List<?>) path) : null;
+			} catch (WebDriverException e) {
+				// e.g: the page is being unloaded
+				LOGGER.debug(String.format("Cannot evaluate %s in the page, evaluate it through the driver", this), e);
+			}
+		}
+		return evaluate(driver);
+	}
+
+	/**
+	 * Evaluate the condition through the driver, one call per locator.
+	 */
+	abstract PageCondition evaluate(WebDriver driver);
+
+	abstract boolean isCompilable();
+
+	abstract Map<String, Object> toScriptArgument();
+
+	abstract PageCondition follow(List<?> path);
+
+	static final class Leaf extends PageCondition {
+		private final By locator;
+		private final String name;
+		private final String value;
+
+		Leaf(final Type type, final By locator, final String name, final String value) {
+			super(type);
+			this.locator = locator;
+			this.name = name;
+			this.value = value;
+		}
+
+		@Override
+		PageCondition evaluate(final WebDriver driver) {
+			switch (type) {
+			case URL_CONTAINS:
+				return driver.getCurrentUrl().contains(value) ? this : null;
+			case TITLE_CONTAINS:
+				return driver.getTitle().contains(value) ? this : null;
+			default:
+				for (WebElement element : driver.findElements(locator)) {
+					if (holds(element)) {
+						return this;
+					}
+				}
+				return null;
+			}
+		}
+
+		private boolean holds(final WebElement element) {
+			switch (type) {
+			case VISIBLE:
+				return element.isDisplayed();
+			case TEXT_CONTAINS:
+				return element.getText().contains(value);
+			case ATTRIBUTE_CONTAINS:
+				final String attribute = element.getAttribute(name);
+				return attribute != null && attribute.contains(value);
+			default:
+				return true;
+			}
+		}
+
+		@Override
+		boolean isCompilable() {
+			return locator == null || DomWait.toSelector(locator) != null;
+		}
+
+		@Override
+		Map<String, Object> toScriptArgument() {
+			final Map<String, Object> argument = new HashMap<>();
+			argument.put("type", type.name());
+			if (locator != null) {
+				final String[] selector = DomWait.toSelector(locator);
+				argument.put("kind", selector[0]);
+				argument.put("selector", selector[1]);
+			}
+			if (name != null) {
+				argument.put("name", name);
+			}
+			if (value != null) {
+				argument.put("value", value);
+			}
+			return argument;
+		}
+
+		@Override
+		PageCondition follow(final List<?> path) {
+			return this;
+		}
+
+		@Override
+		public String toString() {
+			final String target = locator != null ? String.valueOf(locator) : "page";
+			switch (type) {
+			case TEXT_CONTAINS:
+				return String.format("text of %s contains '%s'", target, value);
+			case ATTRIBUTE_CONTAINS:
+				return String.format("attribute %s of %s contains '%s'", name, target, value);
+			case URL_CONTAINS:
+				return String.format("url contains '%s'", value);
+			case TITLE_CONTAINS:
+				return String.format("title contains '%s'", value);
+			default:
+				return String.format("%s %s", target, type.name().toLowerCase());
+			}
+		}
+	}
+
+	static final class Composite extends PageCondition {
+		private final List<PageCondition> children;
+
+		Composite(final Type type, final PageCondition... children) {
+			super(type);
+			this.children = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(children)));
+		}
+
+		@Override
+		PageCondition evaluate(final WebDriver driver) {
+			for (PageCondition child : children) {
+				final PageCondition matched = child.evaluate(driver);
+				if (type == Type.ANY && matched != null) {
+					return matched;
+				}
+				if (type == Type.ALL && matched == null || type == Type.NONE && matched != null) {
+					return null;
+				}
+			}
+			return type == Type.ANY ? null : this;
+		}
+
+		@Override
+		boolean isCompilable() {
+			return children.stream().allMatch(PageCondition::isCompilable);
+		}
+
+		@Override
+		Map<String, Object> toScriptArgument() {
+			final Map<String, Object> argument = new HashMap<>();
+			argument.put("type", type.name());
+			argument.put("children", children.stream().map(PageCondition::toScriptArgument).collect(Collectors.toList()));
+			return argument;
+		}
+
+		@Override
+		PageCondition follow(final List<?> path) {
+			if (path.isEmpty()) {
+				return this;
+			}
+			return children.get(((Number) path.get(0)).intValue()).follow(path.subList(1, path.size()));
+		}
+
+		@Override
+		public String toString() {
+			return children.stream().map(String::valueOf)
+					.collect(Collectors.joining(", ", type.name().toLowerCase() + " of (", ")"));
+		}
+	}
+}
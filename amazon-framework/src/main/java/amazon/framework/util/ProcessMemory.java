@@ -0,0 +1,126 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resident memory of local driver processes and of the browsers they started, read from /proc. Only available on
+ * Linux, other platforms report no process.
+ */
+final class ProcessMemory {
+
+	private static final Log LOGGER = LogFactory.getLog(ProcessMemory.class);
+
+	private static final Path PROC = Paths.get("/proc");
+
+	private ProcessMemory() {
+		// to hide constructor
+	}
+
+	static boolean isAvailable() {
+		return Files.isDirectory(PROC.resolve("self"));
+	}
+
+	/**
+	 * Find the driver process listening on the given port: drivers are started with --port=[port].
+	 *
+	 * @return the pid, or -1 if not found
+	 */
+	static int findDriverProcess(final int port) {
+		return findDriverProcess(PROC, port);
+	}
+
+	/**
+	 * @param proc the /proc directory
+	 */
+	static int findDriverProcess(final Path proc, final int port) {
+		final String portArgument = "--port=" + port;
+		try (DirectoryStream<Path> processes = Files.newDirectoryStream(proc, "[0-9]*")) {
+			for (Path process : processes) {
+				final String commandLine = read(process.resolve("cmdline"));
+				// arguments are separated by \0
+				if (commandLine != null && Arrays.asList(commandLine.split("\0")).contains(portArgument)) {
+					return Integer.parseInt(process.getFileName().toString());
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.debug("Cannot list processes", e);
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the resident memory in kB of the process and all its descendants, 0 if the process is gone
+	 */
+	static long getTreeRssKb(final int pid) {
+		return getTreeRssKb(PROC, pid);
+	}
+
+	/**
+	 * @param proc the /proc directory
+	 */
+	static long getTreeRssKb(final Path proc, final int pid) {
+		final Map<Integer, Integer> parents = new HashMap<>();
+		try (DirectoryStream<Path> processes = Files.newDirectoryStream(proc, "[0-9]*")) {
+			for (Path process : processes) {
+				final String stat = read(process.resolve("stat"));
+				if (stat != null) {
+					// pid (comm) state ppid ..., comm may contain spaces and parentheses
+					final String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+					parents.put(Integer.parseInt(process.getFileName().toString()), Integer.parseInt(fields[1]));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			LOGGER.debug("Cannot list processes", e);
+			return 0;
+		}
+		long rss = 0;
+		final Deque<Integer> tree = new ArrayDeque<>();
+		tree.push(pid);
+		while (!tree.isEmpty()) {
+			final int current = tree.pop();
+			rss += getRssKb(proc, current);
+			parents.forEach((child, parent) -> {
+				if (parent == current) {
+					tree.push(child);
+				}
+			});
+		}
+		return rss;
+	}
+
+	private static long getRssKb(final Path proc, final int pid) {
+		final String status = read(proc.resolve(String.valueOf(pid)).resolve("status"));
+		if (status == null) {
+			return 0;
+		}
+		for (String line : status.split("\n")) {
+			if (line.startsWith("VmRSS:")) {
+				return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+			}
+		}
+		// kernel thread or zombie
+		return 0;
+	}
+
+	private static String read(final Path file) {
+		try {
+			return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			// the process ended meanwhile
+			return null;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Element which keeps its reference while the DOM is stable and locates it again only when the reference is stale,
+ * e.g: after an AJAX refresh of the element. The call failing with a {@link StaleElementReferenceException} is then
+ * retried once on the new element: a stale element throws before doing anything, so the retry never repeats an
+ * action. <br>
+ * The page objects get their fields as such elements through {@link Decorator}, instead of locating them again on
+ * every call. The relocations are counted per locator and logged at the end of the run.
+ */
+public final class SelfHealingElement implements InvocationHandler {
+
+	private static final Log LOGGER = LogFactory.getLog(SelfHealingElement.class);
+
+	private static final Map<String, AtomicLong> RELOCATIONS = new ConcurrentHashMap<>();
+
+	private final ElementLocator locator;
+	private final String description;
+	private volatile WebElement element;
+	private volatile int relocations;
+
+	private SelfHealingElement(final ElementLocator locator, final String description, final WebElement element) {
+		this.locator = locator;
+		this.description = description;
+		this.element = element;
+	}
+
+	/**
+	 * @return an element of the locator, located on its first use
+	 */
+	public static WebElement of(final By by) {
+		return of(by, null);
+	}
+
+	/**
+	 * @param located the element already found with the locator, e.g: returned by a wait, used until it is stale.
+	 *            Null to locate it on its first use.
+	 * @return an element of the locator
+	 */
+	public static WebElement of(final By by, final WebElement located) {
+		return proxy(new ElementLocator() {
+			@Override
+			public WebElement findElement() {
+				try {
+					// refreshed elements are usually already back: look once before waiting
+					return WebElementHelper.findElement(by);
+				} catch (NoSuchElementException e) {
+					return WebElementHelper.waitAndGetElement(by);
+				}
+			}
+
+			@Override
+			public List<WebElement> findElements() {
+				return WebElementHelper.findElements(by);
+			}
+		}, by.toString(), located);
+	}
+
+	/**
+	 * @return an element of the locator, located on its first use
+	 */
+	public static WebElement of(final ElementLocator locator, final String description) {
+		return proxy(locator, description, null);
+	}
+
+	private static WebElement proxy(final ElementLocator locator, final String description, final WebElement located) {
+		return (WebElement) Proxy.newProxyInstance(SelfHealingElement.class.getClassLoader(),
+				new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class },
+				new SelfHealingElement(locator, description, located));
+	}
+
+	/**
+	 * @return the number of times the element was located again, 0 if the object is not a self-healing element
+	 */
+	public static int getRelocations(final WebElement element) {
+		if (element instanceof Proxy && Proxy.getInvocationHandler(element) instanceof SelfHealingElement) {
+			return ((SelfHealingElement) Proxy.getInvocationHandler(element)).relocations;
+		}
+		return 0;
+	}
+
+	/**
+	 * @return the relocations of the run by locator
+	 */
+	public static Map<String, Long> getRelocationsByLocator() {
+		final Map<String, Long> relocations = new TreeMap<>();
+		RELOCATIONS.forEach((locator, count) -> relocations.put(locator, count.get()));
+		return relocations;
+	}
+
+	public static void logSummary() {
+		RELOCATIONS.entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, AtomicLong> e) -> e.getValue().get()).reversed())
+				.forEach(e -> LOGGER.info(String.format("[RELOCATION] %s: located again %s times after staleness",
+						e.getKey(), e.getValue())));
+	}
+
+	static void reset() {
+		RELOCATIONS.clear();
+	}
+
+	@Override
+	public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+		if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+			return "Self-healing element for " + description;
+		}
+		if ("getWrappedElement".equals(method.getName())) {
+			return getElement();
+		}
+		final WebElement current = getElement();
+		try {
+			return method.invoke(current, args);
+		} catch (InvocationTargetException e) {
+			if (!(e.getCause() instanceof StaleElementReferenceException)) {
+				throw e.getCause();
+			}
+			LOGGER.debug(String.format("%s is stale, locate it again", description));
+			relocate(current);
+			try {
+				return method.invoke(getElement(), args);
+			} catch (InvocationTargetException retry) {
+				throw retry.getCause();
+			}
+		}
+	}
+
+	private WebElement getElement() {
+		WebElement current = element;
+		if (current == null) {
+			current = locator.findElement();
+			element = current;
+		}
+		return current;
+	}
+
+	private synchronized void relocate(final WebElement stale) {
+		if (element != stale) {
+			// located again by another call meanwhile
+			return;
+		}
+		element = null;
+		relocations++;
+		RELOCATIONS.computeIfAbsent(description, d -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * Same as {@link DefaultFieldDecorator}, but decorates the {@link WebElement} fields with self-healing elements. The
+	 * lists are left as they are, they are located again on every call.
+	 */
+	public static class Decorator extends DefaultFieldDecorator {
+
+		public Decorator(final ElementLocatorFactory factory) {
+			super(factory);
+		}
+
+		@Override
+		protected WebElement proxyForLocator(final ClassLoader loader, final ElementLocator locator) {
+			return of(locator, locator.toString());
+		}
+	}
+}
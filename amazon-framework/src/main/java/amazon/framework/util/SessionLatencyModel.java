@@ -0,0 +1,265 @@
+package amazon.framework.util;
+
+import com.google.common.collect.ImmutableSet;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Latency of the commands sent to one browser, as the median round trip time of its last commands. It is used to
+ * adapt the waits to the browser: a fast local browser is polled often and keeps the nominal timeouts of
+ * {@link LoadingConstants}, a slow grid node is polled less often and gets longer timeouts. <br>
+ * Round trip times are recorded when the driver was created through {@link #install(WebDriver)}, only for the
+ * commands which answer at once: navigations, clicks, asynchronous scripts and screenshots wait for the page by
+ * design and are not recorded. The median ignores the occasional slow script, e.g: a {@link DomSnapshot}.
+ */
+public class SessionLatencyModel {
+
+	private static final Log LOGGER = LogFactory.getLog(SessionLatencyModel.class);
+
+	// above this round trip time the browser is considered slow
+	static final long SLOW_ROUND_TRIP_MILLIS = 500;
+	// nominal timeouts are calibrated for this round trip time
+	private static final double BASELINE_ROUND_TRIP_MILLIS = 100;
+	private static final double MAX_TIMEOUT_FACTOR = 3;
+	// number of last commands of the median
+	private static final int WINDOW = 31;
+	private static final Duration MIN_POLLING = Duration.ofMillis(50);
+	private static final Duration MAX_POLLING = Duration.ofSeconds(2);
+	// FluentWait default, used until some commands have been timed
+	private static final Duration DEFAULT_POLLING = Duration.ofMillis(500);
+	// the median after this number of commands is the baseline to measure the drift
+	private static final int BASELINE_COMMANDS = 20;
+	// commands which wait for the page or for a script, their time is not a round trip
+	private static final Set<String> WAITING_COMMANDS = ImmutableSet.of(DriverCommand.NEW_SESSION,
+			DriverCommand.QUIT, DriverCommand.CLOSE, DriverCommand.GET, DriverCommand.REFRESH, DriverCommand.GO_BACK,
+			DriverCommand.GO_FORWARD, DriverCommand.CLICK_ELEMENT, DriverCommand.SUBMIT_ELEMENT,
+			DriverCommand.EXECUTE_ASYNC_SCRIPT, DriverCommand.SCREENSHOT, DriverCommand.ELEMENT_SCREENSHOT);
+	// set by the threads whose commands must not be seen by the model, e.g: the heartbeats of the watchdog
+	private static final ThreadLocal<Boolean> UNTIMED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+	private final long[] window = new long[WINDOW];
+	private long commandCount;
+	// all the commands started, timed or not
+	private long startedCount;
+	private double medianMillis;
+	private long maxMillis;
+	private double baselineMillis;
+	private boolean gridSlow;
+	private final LongSupplier nanoClock;
+	// nanoClock at the start of the command in progress, 0 if none
+	private long inFlightSince;
+	private long lastCommandEnd;
+
+	public SessionLatencyModel() {
+		this(System::nanoTime);
+	}
+
+	/**
+	 * @param nanoClock time in nanoseconds, as {@link System#nanoTime()}
+	 */
+	SessionLatencyModel(final LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		this.lastCommandEnd = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Decorate the command executor of the driver so that the round trip time of every command is recorded.
+	 *
+	 * @return the model fed by the driver
+	 */
+	public static SessionLatencyModel install(final WebDriver driver) {
+		final SessionLatencyModel model = new SessionLatencyModel();
+		if (driver instanceof RemoteWebDriver) {
+			final RemoteWebDriver remoteDriver = (RemoteWebDriver) driver;
+			try {
+				final Method setter = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor",
+						CommandExecutor.class);
+				setter.setAccessible(true);
+				setter.invoke(remoteDriver, new TimedCommandExecutor(remoteDriver.getCommandExecutor(), model));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				LOGGER.warn("Cannot time the commands of the driver, waits will not adapt to its latency", e);
+			}
+		}
+		return model;
+	}
+
+	/**
+	 * @return the model installed on the driver, or a new one fed by the helpers only
+	 */
+	public static SessionLatencyModel of(final WebDriver driver) {
+		if (driver instanceof RemoteWebDriver
+				&& ((RemoteWebDriver) driver).getCommandExecutor() instanceof TimedCommandExecutor) {
+			return ((TimedCommandExecutor) ((RemoteWebDriver) driver).getCommandExecutor()).model;
+		}
+		return new SessionLatencyModel();
+	}
+
+	/**
+	 * @return the executor decorated by {@link #install(WebDriver)}, or the given one
+	 */
+	public static CommandExecutor unwrap(final CommandExecutor executor) {
+		return executor instanceof TimedCommandExecutor ? ((TimedCommandExecutor) executor).delegate : executor;
+	}
+
+	/**
+	 * Run a call on the driver without timing its commands.
+	 */
+	public static <T> T untimed(final Supplier<T> call) {
+		UNTIMED.set(Boolean.TRUE);
+		try {
+			return call.get();
+		} finally {
+			UNTIMED.remove();
+		}
+	}
+
+	/**
+	 * @return true if the time of the command is a round trip to the browser, false if it waits for the page
+	 */
+	static boolean isRoundTrip(final String commandName) {
+		return !WAITING_COMMANDS.contains(commandName);
+	}
+
+	public synchronized void record(final long roundTripMillis) {
+		window[(int) (commandCount % WINDOW)] = roundTripMillis;
+		commandCount++;
+		final long[] last = Arrays.copyOf(window, (int) Math.min(commandCount, WINDOW));
+		Arrays.sort(last);
+		medianMillis = last.length % 2 == 1 ? last[last.length / 2]
+				: (last[last.length / 2 - 1] + last[last.length / 2]) / 2.0;
+		maxMillis = Math.max(maxMillis, roundTripMillis);
+		if (commandCount == BASELINE_COMMANDS) {
+			baselineMillis = medianMillis;
+		}
+	}
+
+	synchronized void commandStarted(final long nanoTime) {
+		inFlightSince = nanoTime;
+		startedCount++;
+	}
+
+	synchronized void commandEnded(final long nanoTime) {
+		inFlightSince = 0;
+		lastCommandEnd = nanoTime;
+	}
+
+	/**
+	 * @return how long the command in progress has been running, 0 if no command is running
+	 */
+	public synchronized long getInFlightMillis() {
+		return inFlightSince == 0 ? 0 : (nanoClock.getAsLong() - inFlightSince) / 1_000_000;
+	}
+
+	/**
+	 * @return the number of commands started on the session, including the ones not recorded as round trips
+	 */
+	public synchronized long getStartedCommands() {
+		return startedCount;
+	}
+
+	/**
+	 * @return how long ago the last command ended, 0 while a command is running
+	 */
+	public synchronized long getIdleMillis() {
+		return inFlightSince != 0 ? 0 : (nanoClock.getAsLong() - lastCommandEnd) / 1_000_000;
+	}
+
+	/**
+	 * @return the current median divided by the median of the first commands of the session, 1 until enough
+	 *         commands have been timed
+	 */
+	public synchronized double getDriftFactor() {
+		return baselineMillis > 0 ? medianMillis / baselineMillis : 1;
+	}
+
+	public synchronized void setGridSlow(final boolean gridSlow) {
+		this.gridSlow = gridSlow;
+	}
+
+	public synchronized boolean isSlow() {
+		return gridSlow || medianMillis > SLOW_ROUND_TRIP_MILLIS;
+	}
+
+	/**
+	 * @return the median round trip time of the last commands
+	 */
+	public synchronized double getRoundTripMillis() {
+		return medianMillis;
+	}
+
+	/**
+	 * @return the factor applied to the nominal timeouts, between 1 and 3
+	 */
+	public synchronized double getTimeoutFactor() {
+		final double factor = Math.max(1, Math.min(MAX_TIMEOUT_FACTOR, medianMillis / BASELINE_ROUND_TRIP_MILLIS));
+		return gridSlow ? Math.max(2, factor) : factor;
+	}
+
+	public long scaleTimeout(final long timeoutInSeconds) {
+		return Math.round(timeoutInSeconds * getTimeoutFactor());
+	}
+
+	/**
+	 * @return twice the round trip time, so that a condition costs about half of the browser time, between 50
+	 *         ms and 2 s
+	 */
+	public synchronized Duration getPollingInterval() {
+		if (commandCount == 0) {
+			return DEFAULT_POLLING;
+		}
+		final Duration interval = Duration.ofMillis(Math.round(2 * medianMillis));
+		if (interval.compareTo(MIN_POLLING) < 0) {
+			return MIN_POLLING;
+		}
+		return interval.compareTo(MAX_POLLING) > 0 ? MAX_POLLING : interval;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("%s commands, median %.0f ms, max %s ms, drift x%.1f, %s, timeout x%.1f, polling %s ms",
+				commandCount, medianMillis, maxMillis, getDriftFactor(), isSlow() ? "slow" : "fast",
+				getTimeoutFactor(), getPollingInterval().toMillis());
+	}
+
+	private static final class TimedCommandExecutor implements CommandExecutor {
+		private final CommandExecutor delegate;
+		private final SessionLatencyModel model;
+
+		TimedCommandExecutor(final CommandExecutor delegate, final SessionLatencyModel model) {
+			this.delegate = delegate;
+			this.model = model;
+		}
+
+		@Override
+		public Response execute(final Command command) throws IOException {
+			if (UNTIMED.get()) {
+				return delegate.execute(command);
+			}
+			final long start = model.nanoClock.getAsLong();
+			model.commandStarted(start);
+			try {
+				return delegate.execute(command);
+			} finally {
+				final long end = model.nanoClock.getAsLong();
+				model.commandEnded(end);
+				if (isRoundTrip(command.getName())) {
+					model.record((end - start) / 1_000_000);
+				}
+			}
+		}
+	}
+}
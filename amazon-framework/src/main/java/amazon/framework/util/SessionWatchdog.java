@@ -0,0 +1,185 @@
+package amazon.framework.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Check the registered {@link DriverSession}s in background every {@value #INTERVAL_PROPERTY} seconds (default 30,
+ * 0 to disable), and flag the unhealthy ones with {@link DriverSession#markUnhealthy(String)}. A flagged session is
+ * recycled before the next test instead of failing inside it. A session is unhealthy when:
+ * <li>a command has been running for more than {@value #HANG_TIMEOUT_PROPERTY} seconds (default 600)</li>
+ * <li>an idle session does not answer a heartbeat within {@value #HEARTBEAT_TIMEOUT_PROPERTY} seconds (default
+ * 10)</li>
+ * <li>its median command latency drifted more than {@value #LATENCY_DRIFT_PROPERTY} times (default 3) above the
+ * latency of its first commands, see {@link SessionLatencyModel#getDriftFactor()}, on {@value #DRIFT_CHECKS}
+ * consecutive checks</li>
+ * <li>on local Linux runs, the driver process and its browser use more than {@value #MAX_RSS_PROPERTY} MB of
+ * resident memory (default 2048)</li>
+ */
+public final class SessionWatchdog {
+
+	private static final Log LOGGER = LogFactory.getLog(SessionWatchdog.class);
+
+	public static final String INTERVAL_PROPERTY = "webdriver.watchdog.interval";
+	public static final String HEARTBEAT_TIMEOUT_PROPERTY = "webdriver.watchdog.heartbeat.timeout";
+	public static final String HANG_TIMEOUT_PROPERTY = "webdriver.watchdog.hang.timeout";
+	public static final String LATENCY_DRIFT_PROPERTY = "webdriver.watchdog.latency.drift";
+	public static final String MAX_RSS_PROPERTY = "webdriver.watchdog.max.rss";
+
+	// a drift must last this number of checks, a few slow pages are not a degraded browser
+	static final int DRIFT_CHECKS = 3;
+
+	private static final SessionWatchdog INSTANCE = new SessionWatchdog(Long.getLong(INTERVAL_PROPERTY, 30L),
+			Long.getLong(HEARTBEAT_TIMEOUT_PROPERTY, 10L), Long.getLong(HANG_TIMEOUT_PROPERTY, 600L),
+			Double.parseDouble(System.getProperty(LATENCY_DRIFT_PROPERTY, "3")), Long.getLong(MAX_RSS_PROPERTY, 2048L));
+
+	private final long intervalInSeconds;
+	private final long heartbeatTimeoutInSeconds;
+	private final long hangTimeoutInSeconds;
+	private final double maxLatencyDrift;
+	private final long maxRssInMb;
+
+	private final ScheduledExecutorService checkScheduler;
+	// heartbeats may hang, they must not block the checks of the other sessions
+	private final ExecutorService heartbeatExecutor;
+	// pid of the local driver process of each session, -1 if there is none
+	private final Map<DriverSession, Integer> driverProcesses = new ConcurrentHashMap<>();
+	// consecutive checks which found the latency of each session drifted
+	private final Map<DriverSession, Integer> driftedChecks = new ConcurrentHashMap<>();
+
+	private boolean started;
+
+	SessionWatchdog(final long intervalInSeconds, final long heartbeatTimeoutInSeconds,
+			final long hangTimeoutInSeconds, final double maxLatencyDrift, final long maxRssInMb) {
+		this.intervalInSeconds = intervalInSeconds;
+		this.heartbeatTimeoutInSeconds = heartbeatTimeoutInSeconds;
+		this.hangTimeoutInSeconds = hangTimeoutInSeconds;
+		this.maxLatencyDrift = maxLatencyDrift;
+		this.maxRssInMb = maxRssInMb;
+		this.checkScheduler = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().setNameFormat("webdriver-watchdog").setDaemon(true).build());
+		this.heartbeatExecutor = Executors.newCachedThreadPool(
+				new ThreadFactoryBuilder().setNameFormat("webdriver-watchdog-heartbeat-%d").setDaemon(true).build());
+	}
+
+	public static SessionWatchdog getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Start the periodic checks, only the first call has an effect.
+	 */
+	public synchronized void start() {
+		if (started || intervalInSeconds <= 0) {
+			return;
+		}
+		started = true;
+		checkScheduler.scheduleWithFixedDelay(this::checkAll, intervalInSeconds, intervalInSeconds, TimeUnit.SECONDS);
+		LOGGER.info(String.format("Session watchdog started, checks every %s s", intervalInSeconds));
+	}
+
+	public void shutdown() {
+		checkScheduler.shutdownNow();
+		heartbeatExecutor.shutdownNow();
+	}
+
+	private void checkAll() {
+		final List<DriverSession> sessions = DriverSessionHolder.getDriverSessions();
+		driverProcesses.keySet().retainAll(sessions);
+		driftedChecks.keySet().retainAll(sessions);
+		for (DriverSession session : sessions) {
+			try {
+				if (session.isHealthy()) {
+					final String problem = check(session);
+					if (problem != null) {
+						session.markUnhealthy(problem);
+					}
+				}
+			} catch (RuntimeException e) {
+				// never let an exception cancel the next checks
+				LOGGER.warn("Cannot check session " + session.getSessionIdentifier(), e);
+			}
+		}
+	}
+
+	/**
+	 * @return the problem of the session, or null if it is healthy
+	 */
+	String check(final DriverSession session) {
+		final SessionLatencyModel latency = session.getLatencyModel();
+		final long inFlightMillis = latency.getInFlightMillis();
+		if (inFlightMillis > TimeUnit.SECONDS.toMillis(hangTimeoutInSeconds)) {
+			return String.format("command running for %s s", inFlightMillis / 1000);
+		}
+		// a session which sent a command since the last check needs no heartbeat, and a heartbeat sent while a
+		// command runs would only wait for it
+		if (inFlightMillis == 0 && latency.getIdleMillis() >= TimeUnit.SECONDS.toMillis(intervalInSeconds)) {
+			final String problem = heartbeat(session);
+			if (problem != null) {
+				return problem;
+			}
+		}
+		if (latency.getDriftFactor() <= maxLatencyDrift) {
+			driftedChecks.remove(session);
+		} else if (driftedChecks.merge(session, 1, Integer::sum) >= DRIFT_CHECKS) {
+			return "latency drifted: " + latency;
+		}
+		final long rssInMb = getRssInMb(session);
+		if (rssInMb > maxRssInMb) {
+			return String.format("driver and browser use %s MB of memory", rssInMb);
+		}
+		LOGGER.debug(String.format("Session %s healthy: %s, %s MB", session.getSessionIdentifier(), latency,
+				rssInMb));
+		return null;
+	}
+
+	private String heartbeat(final DriverSession session) {
+		final SessionLatencyModel latency = session.getLatencyModel();
+		final long startedCommands = latency.getStartedCommands();
+		// the cheapest command which needs the browser to answer, not part of the latency of the test commands
+		final CompletableFuture<String> windowHandle = CompletableFuture.supplyAsync(
+				() -> SessionLatencyModel.untimed(session.getDriver()::getWindowHandle), heartbeatExecutor);
+		try {
+			windowHandle.get(heartbeatTimeoutInSeconds, TimeUnit.SECONDS);
+			return null;
+		} catch (TimeoutException e) {
+			if (latency.getStartedCommands() != startedCommands) {
+				// the test used the session meanwhile, the heartbeat only waited for its command
+				return null;
+			}
+			return String.format("no answer to heartbeat within %s s", heartbeatTimeoutInSeconds);
+		} catch (ExecutionException e) {
+			return "heartbeat failed: " + e.getCause();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	/**
+	 * @return the resident memory of the local driver process and its browser, 0 if unknown
+	 */
+	private long getRssInMb(final DriverSession session) {
+		if (!ProcessMemory.isAvailable()) {
+			return 0;
+		}
+		final int pid = driverProcesses.computeIfAbsent(session, s -> {
+			final DriverService service = DriverReaper.getDriverService(s.getDriver());
+			return service != null ? ProcessMemory.findDriverProcess(service.getUrl().getPort()) : -1;
+		});
+		return pid > 0 ? ProcessMemory.getTreeRssKb(pid) / 1024 : 0;
+	}
+}
@@ -0,0 +1,161 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Explicit sleeps of the run per call site, logged at the end of the run with the time they consumed. <br>
+ * With -D{@value #PROBE_PROPERTY}=true, the page is checked every {@value #PROBE_INTERVAL_MILLIS} ms during the sleeps
+ * with {@link Stabilization#pageSettled()}: the report tells how often the page was already stable before the end of
+ * the sleep, and how much time waiting for it instead would have saved. Off by default: the probe runs scripts in the
+ * page under test, which install the trackers of the page (network idle, mutations). It stops as soon as an alert is
+ * open, as a script would close it.
+ */
+public final class SleepReport {
+
+	private static final Log LOGGER = LogFactory.getLog(SleepReport.class);
+
+	public static final String PROBE_PROPERTY = "webdriver.sleep.probe";
+
+	static final long PROBE_INTERVAL_MILLIS = 250;
+
+	private static final Map<String, CallSite> CALL_SITES = new ConcurrentHashMap<>();
+
+	private SleepReport() {
+		// to hide constructor
+	}
+
+	/**
+	 * Sleep, and record the sleep for its caller.
+	 */
+	public static void sleep(final long timeInSeconds) {
+		final long sleepMillis = TimeUnit.SECONDS.toMillis(timeInSeconds);
+		boolean probe = Boolean.getBoolean(PROBE_PROPERTY) && DriverSessionHolder.getDriverSession() != null;
+		final Stabilization settled = Stabilization.pageSettled();
+		final long start = System.nanoTime();
+		long stableAfterMillis = -1;
+		try {
+			while (true) {
+				if (probe && stableAfterMillis < 0) {
+					if (isAlertPresent()) {
+						probe = false;
+					} else if (isStable(settled)) {
+						stableAfterMillis = elapsedMillis(start);
+					}
+				}
+				// after the probe, which takes round trips to the browser
+				final long elapsed = elapsedMillis(start);
+				if (elapsed >= sleepMillis) {
+					break;
+				}
+				Thread.sleep(Math.min(PROBE_INTERVAL_MILLIS, sleepMillis - elapsed));
+			}
+		} catch (InterruptedException e) {
+			LOGGER.info("Try to wait in " + timeInSeconds + " but failed.", e);
+			Thread.currentThread().interrupt();
+		}
+		record(findCallSite(), elapsedMillis(start), stableAfterMillis);
+	}
+
+	/**
+	 * @param stableAfterMillis when the page was stable during the sleep, -1 if it never was (or was not checked)
+	 */
+	static void record(final String callSite, final long sleptMillis, final long stableAfterMillis) {
+		CALL_SITES.computeIfAbsent(callSite, k -> new CallSite(callSite)).add(sleptMillis, stableAfterMillis);
+	}
+
+	public static void logSummary() {
+		CALL_SITES.values().stream().sorted(Comparator.comparingLong(CallSite::getTotalMillis).reversed())
+				.forEach(callSite -> LOGGER.info("[SLEEP] " + callSite));
+	}
+
+	static Map<String, CallSite> getCallSites() {
+		return CALL_SITES;
+	}
+
+	static void reset() {
+		CALL_SITES.clear();
+	}
+
+	private static boolean isAlertPresent() {
+		try {
+			return WebdriverHelper.isAlertPresent(0);
+		} catch (WebDriverException e) {
+			// cannot tell, do not risk a script
+			return true;
+		}
+	}
+
+	private static boolean isStable(final Stabilization stabilization) {
+		try {
+			return stabilization.isStable(DriverSessionHolder.getDriver());
+		} catch (WebDriverException e) {
+			// e.g: page being unloaded
+			return false;
+		}
+	}
+
+	private static long elapsedMillis(final long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+
+	// first frame outside of the sleeping helpers
+	private static String findCallSite() {
+		for (StackTraceElement frame : new Throwable().getStackTrace()) {
+			final String className = frame.getClassName();
+			if (!className.equals(SleepReport.class.getName()) && !className.equals(WebElementHelper.class.getName())) {
+				return frame.toString();
+			}
+		}
+		return "unknown";
+	}
+
+	static final class CallSite {
+		private final String location;
+		private long count;
+		private long totalMillis;
+		private long stableEarlier;
+		private long savableMillis;
+
+		CallSite(final String location) {
+			this.location = location;
+		}
+
+		synchronized void add(final long sleptMillis, final long stableAfterMillis) {
+			count++;
+			totalMillis += sleptMillis;
+			if (stableAfterMillis >= 0) {
+				stableEarlier++;
+				savableMillis += sleptMillis - stableAfterMillis;
+			}
+		}
+
+		synchronized long getCount() {
+			return count;
+		}
+
+		synchronized long getTotalMillis() {
+			return totalMillis;
+		}
+
+		synchronized long getStableEarlier() {
+			return stableEarlier;
+		}
+
+		synchronized long getSavableMillis() {
+			return savableMillis;
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format("%s: %s sleeps, %s ms, page stable earlier in %s of them, %s ms could be saved",
+					location, count, totalMillis, stableEarlier, savableMillis);
+		}
+	}
+}
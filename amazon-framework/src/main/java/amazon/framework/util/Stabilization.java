@@ -0,0 +1,97 @@
+package amazon.framework.util;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Condition telling that the page is stable, to wait for instead of sleeping a fixed time, see
+ * {@link WebElementHelper#waitUntilStable(Stabilization, long)}. Each check costs one round trip per condition.
+ */
+public final class Stabilization {
+
+	private static final String RUNNING_ANIMATIONS = "var root = arguments[0] || document;"
+			+ " if (!root.getAnimations) { return 0; }"
+			+ " return root.getAnimations(arguments[0] ? { subtree: true } : undefined)"
+			+ ".filter(function(a) { return a.playState === 'running'; }).length;";
+
+	private final String description;
+	private final Function<WebDriver, Boolean> condition;
+
+	private Stabilization(final String description, final Function<WebDriver, Boolean> condition) {
+		this.description = description;
+		this.condition = condition;
+	}
+
+	public static Stabilization of(final String description, final Function<WebDriver, Boolean> condition) {
+		return new Stabilization(description, condition);
+	}
+
+	/**
+	 * No mutation of the DOM for the quiet period. The mutations are tracked from the first check on a document.
+	 */
+	public static Stabilization domQuiet(final long quietMillis) {
+		return of("DOM quiet for " + quietMillis + " ms", driver -> ((Number) ((JavascriptExecutor) driver)
+				.executeScript(JSComponentHelper.loadScript("dom-quiet.js"))).longValue() >= quietMillis);
+	}
+
+	/**
+	 * Document complete, and no request nor short timer pending for the quiet period, see {@link NetworkIdleTracker}.
+	 */
+	public static Stabilization networkIdle(final long quietMillis) {
+		return of("network idle for " + quietMillis + " ms", driver -> {
+			final Map<String, Object> state = NetworkIdleTracker.getState();
+			return "complete".equals(state.get("readyState"))
+					&& ((Number) state.get("idleMillis")).longValue() >= quietMillis;
+		});
+	}
+
+	/**
+	 * No CSS animation or transition running in the page. Always true on browsers without Web Animations API.
+	 */
+	public static Stabilization animationsFinished() {
+		return of("animations finished", driver -> ((Number) ((JavascriptExecutor) driver)
+				.executeScript(RUNNING_ANIMATIONS, (Object) null)).longValue() == 0);
+	}
+
+	/**
+	 * No CSS animation or transition running on the element or its descendants.
+	 */
+	public static Stabilization animationsFinished(final By locator) {
+		return of("animations of " + locator + " finished", driver -> ((Number) ((JavascriptExecutor) driver)
+				.executeScript(RUNNING_ANIMATIONS, driver.findElement(locator))).longValue() == 0);
+	}
+
+	public static Stabilization allOf(final Stabilization... stabilizations) {
+		return of(Arrays.stream(stabilizations).map(String::valueOf).collect(Collectors.joining(", ")), driver -> {
+			for (Stabilization stabilization : stabilizations) {
+				if (!stabilization.isStable(driver)) {
+					return false;
+				}
+			}
+			return true;
+		});
+	}
+
+	/**
+	 * DOM quiet, network idle and animations finished: what most of the explicit sleeps wait for.
+	 */
+	public static Stabilization pageSettled() {
+		return allOf(networkIdle(LoadingConstants.NETWORK_QUIET_MILLIS),
+				domQuiet(LoadingConstants.NETWORK_QUIET_MILLIS), animationsFinished());
+	}
+
+	public boolean isStable(final WebDriver driver) {
+		return Boolean.TRUE.equals(condition.apply(driver));
+	}
+
+	@Override
+	public String toString() {
+		return description;
+	}
+}
@@ -0,0 +1,36 @@
+package amazon.framework.util;
+
+/**
+ * Kind of wait, each with its nominal timeout from {@link LoadingConstants}. The durations of the waits are recorded
+ * per category by {@link WaitTelemetry}, which tunes the timeout of the category from the previous runs: the waits of
+ * a category must last about the same, a wait of a few milliseconds and a wait of a minute need their own categories.
+ */
+public enum WaitCategory {
+
+	RENDER(LoadingConstants.RENDER_ELEMENT),
+	UPDATE_BUTTON(LoadingConstants.UPDATE_BUTTON),
+	LOADING(LoadingConstants.LOADING_TIMEOUT),
+	// an element added to the page, see WebElementHelper#waitForElementExist(By)
+	ELEMENT_EXIST(LoadingConstants.LOADING_TIMEOUT),
+	// a navigation reaching its URL, see WebElementHelper#waitForURLContains(String...)
+	URL_CHANGE(LoadingConstants.LOADING_TIMEOUT),
+	// document.readyState complete, see WebdriverHelper#waitUntilDocumentReady()
+	DOCUMENT_READY(LoadingConstants.LOADING_TIMEOUT),
+	PAGE_LOAD(LoadingConstants.PAGE_LOAD),
+	// waits with an explicit timeout: recorded, never tuned
+	OTHER(LoadingConstants.LOADING_TIMEOUT);
+
+	private final long nominalTimeoutInSeconds;
+
+	WaitCategory(final long nominalTimeoutInSeconds) {
+		this.nominalTimeoutInSeconds = nominalTimeoutInSeconds;
+	}
+
+	public long getNominalTimeout() {
+		return nominalTimeoutInSeconds;
+	}
+
+	public boolean isTunable() {
+		return this != OTHER;
+	}
+}
@@ -0,0 +1,142 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time budget of a test step, attached to the {@link DriverSession} of the current thread. While the step runs, every
+ * wait created by {@link WebdriverHelper#newWait(long)} and every element of a page object located through
+ * {@link BudgetedElementLocatorFactory} is cut to the remaining budget: a failing step fails when its budget is
+ * exhausted, instead of after the sum of the timeouts of all its waits. <br>
+ * Steps nest, a nested step never outlives the step around it:
+ *
+ * <pre>
+ * try (WaitDeadline step = WaitDeadline.start("Checkout", 90)) {
+ * 	...
+ * }
+ * </pre>
+ */
+public final class WaitDeadline implements AutoCloseable {
+
+	private static final Log LOGGER = LogFactory.getLog(WaitDeadline.class);
+
+	/**
+	 * Budget in seconds of the steps started with {@link #startStep(String)} (default 180).
+	 */
+	public static final String STEP_BUDGET_PROPERTY = "webdriver.step.budget";
+
+	private final String step;
+	private final long budgetInSeconds;
+	private final long endNanos;
+	private final WaitDeadline parent;
+	// the step whose end is the nearest: this one or one around it
+	private final WaitDeadline binding;
+	private final DriverSession session;
+
+	private WaitDeadline(final String step, final long budgetInSeconds, final WaitDeadline parent,
+			final DriverSession session) {
+		this.step = step;
+		this.budgetInSeconds = budgetInSeconds;
+		this.parent = parent;
+		this.session = session;
+		final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(budgetInSeconds);
+		if (parent != null && parent.endNanos - end < 0) {
+			this.endNanos = parent.endNanos;
+			this.binding = parent.binding;
+		} else {
+			this.endNanos = end;
+			this.binding = this;
+		}
+	}
+
+	/**
+	 * Start a step with a budget, adapted to the latency of the browser (see {@link LoadingConstants#adapt(long)}).
+	 * Without session on the current thread, the step is not attached: only the waits given the deadline explicitly
+	 * respect it.
+	 */
+	public static WaitDeadline start(final String step, final long budgetInSeconds) {
+		final DriverSession session = DriverSessionHolder.getDriverSession();
+		final WaitDeadline deadline = new WaitDeadline(step, LoadingConstants.adapt(budgetInSeconds),
+				session != null ? session.getDeadline() : null, session);
+		if (session != null) {
+			session.setDeadline(deadline);
+		}
+		return deadline;
+	}
+
+	/**
+	 * Start a step with the default budget, see {@value #STEP_BUDGET_PROPERTY}.
+	 */
+	public static WaitDeadline startStep(final String step) {
+		return start(step, Long.getLong(STEP_BUDGET_PROPERTY, 180L));
+	}
+
+	/**
+	 * @return the innermost step running on the session of the current thread, null if there is none
+	 */
+	public static WaitDeadline current() {
+		final DriverSession session = DriverSessionHolder.getDriverSession();
+		return session != null ? session.getDeadline() : null;
+	}
+
+	/**
+	 * @return the timeout cut to the remaining budget of the current step, if any
+	 */
+	public static long remainingSeconds(final long timeoutInSeconds) {
+		final WaitDeadline deadline = current();
+		return deadline != null ? Math.min(timeoutInSeconds, deadline.getRemaining().getSeconds()) : timeoutInSeconds;
+	}
+
+	/**
+	 * @return the remaining budget, zero once exhausted
+	 */
+	public Duration getRemaining() {
+		final long remaining = endNanos - System.nanoTime();
+		return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+	}
+
+	public boolean isExhausted() {
+		return getRemaining().isZero();
+	}
+
+	/**
+	 * @return the shortest of the timeout and the remaining budget
+	 */
+	public Duration clamp(final Duration timeout) {
+		final Duration remaining = getRemaining();
+		return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+	}
+
+	/**
+	 * @return the step whose budget limits the waits of this one: this step, or a step around it ending sooner
+	 */
+	public WaitDeadline getBindingStep() {
+		return binding;
+	}
+
+	public String getStep() {
+		return step;
+	}
+
+	/**
+	 * End the step: the step around it, if any, applies again.
+	 */
+	@Override
+	public void close() {
+		if (session == null) {
+			return;
+		}
+		if (session.getDeadline() != this) {
+			LOGGER.warn(String.format("%s closed while %s is running", this, session.getDeadline()));
+		}
+		session.setDeadline(parent);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("step '%s' (%s s)", step, budgetInSeconds);
+	}
+}
@@ -0,0 +1,214 @@
+package amazon.framework.util;
+
+import amazon.framework.core.DriverBinaryResolver;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durations of the waits per {@link WaitCategory}, kept across runs in a history file ({@value #HISTORY_PROPERTY},
+ * default wait-history.csv in the log directory) so that {@link LoadingConstants#timeout(WaitCategory)} can tune the
+ * timeouts from the previous runs. Only the latest {@value #HISTORY_SIZE} waits of each category are kept.
+ */
+public final class WaitTelemetry {
+
+	private static final Log LOGGER = LogFactory.getLog(WaitTelemetry.class);
+
+	public static final String HISTORY_PROPERTY = "webdriver.wait.history";
+
+	static final int HISTORY_SIZE = 2000;
+
+	private static final Map<WaitCategory, Samples> SAMPLES = new EnumMap<>(WaitCategory.class);
+	private static boolean loaded;
+
+	private WaitTelemetry() {
+		// to hide constructor
+	}
+
+	public static void record(final WaitCategory category, final long elapsedMillis, final boolean succeeded) {
+		getSamples(category).add(elapsedMillis, succeeded, true);
+	}
+
+	/**
+	 * @param percentile between 0 and 100
+	 * @return the duration in milliseconds of the successful waits, or -1 if there is none
+	 */
+	public static long getPercentile(final WaitCategory category, final double percentile) {
+		return getSamples(category).getPercentile(percentile);
+	}
+
+	/**
+	 * @return the share of the waits of the category which timed out in this run, 0 if none was recorded
+	 */
+	public static double getRunTimeoutRate(final WaitCategory category) {
+		return getSamples(category).getRunTimeoutRate();
+	}
+
+	/**
+	 * @return the number of successful waits known for the category, history included
+	 */
+	public static int getSuccessCount(final WaitCategory category) {
+		return getSamples(category).getSuccessCount();
+	}
+
+	public static String summary(final WaitCategory category) {
+		final Samples samples = getSamples(category);
+		return String.format("%s: %s waits in this run, %s timeouts, %s successful waits known, p50=%s ms p99=%s ms",
+				category, samples.getRunCount(), samples.getRunTimeouts(), samples.getSuccessCount(),
+				samples.getPercentile(50), samples.getPercentile(99));
+	}
+
+	public static void logSummary() {
+		for (WaitCategory category : WaitCategory.values()) {
+			if (getSamples(category).getRunCount() > 0) {
+				LOGGER.info("[WAIT] " + summary(category));
+			}
+		}
+	}
+
+	/**
+	 * Write the kept waits to the history file, through a temporary file so that a concurrent run never reads a
+	 * partial history. Nothing is written if no wait was recorded in this run.
+	 */
+	public static void save() {
+		if (Arrays.stream(WaitCategory.values()).allMatch(category -> getSamples(category).getRunCount() == 0)) {
+			return;
+		}
+		final Path history = getHistoryFile();
+		try {
+			Files.createDirectories(history.toAbsolutePath().getParent());
+			final Path temp = Files.createTempFile(history.toAbsolutePath().getParent(), "wait-history", ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				for (WaitCategory category : WaitCategory.values()) {
+					getSamples(category).write(category, writer);
+				}
+			}
+			Files.move(temp, history, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.info("Cannot save the wait history to " + history, e);
+		}
+	}
+
+	static Path getHistoryFile() {
+		return Paths.get(System.getProperty(HISTORY_PROPERTY, DriverBinaryResolver.getLogFile("wait-history.csv")));
+	}
+
+	/**
+	 * Forget the waits, the history file is read again by the next call.
+	 */
+	static synchronized void reset() {
+		SAMPLES.clear();
+		loaded = false;
+	}
+
+	private static synchronized Samples getSamples(final WaitCategory category) {
+		if (!loaded) {
+			loaded = true;
+			load();
+		}
+		return SAMPLES.computeIfAbsent(category, k -> new Samples());
+	}
+
+	private static void load() {
+		final Path history = getHistoryFile();
+		if (!Files.isRegularFile(history)) {
+			return;
+		}
+		try {
+			final List<String> lines = Files.readAllLines(history, StandardCharsets.UTF_8);
+			for (String line : lines) {
+				final String[] fields = line.split(",");
+				try {
+					final WaitCategory category = WaitCategory.valueOf(fields[0]);
+					SAMPLES.computeIfAbsent(category, k -> new Samples()).add(Long.parseLong(fields[1]),
+							Boolean.parseBoolean(fields[2]), false);
+				} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+					LOGGER.debug("Ignored line of the wait history: " + line);
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.info("Cannot read the wait history " + history, e);
+		}
+	}
+
+	private static final class Samples {
+		private final long[] values = new long[HISTORY_SIZE];
+		private final boolean[] succeeded = new boolean[HISTORY_SIZE];
+		private long count;
+		private long runCount;
+		private long runTimeouts;
+
+		synchronized void add(final long value, final boolean success, final boolean inThisRun) {
+			final int index = (int) (count % HISTORY_SIZE);
+			values[index] = value;
+			succeeded[index] = success;
+			count++;
+			if (inThisRun) {
+				runCount++;
+				if (!success) {
+					runTimeouts++;
+				}
+			}
+		}
+
+		synchronized long getRunCount() {
+			return runCount;
+		}
+
+		synchronized long getRunTimeouts() {
+			return runTimeouts;
+		}
+
+		synchronized double getRunTimeoutRate() {
+			return runCount == 0 ? 0 : (double) runTimeouts / runCount;
+		}
+
+		synchronized int getSuccessCount() {
+			return successes().length;
+		}
+
+		synchronized long getPercentile(final double percentile) {
+			final long[] sorted = successes();
+			if (sorted.length == 0) {
+				return -1;
+			}
+			Arrays.sort(sorted);
+			final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+			return sorted[Math.min(Math.max(rank - 1, 0), sorted.length - 1)];
+		}
+
+		synchronized void write(final WaitCategory category, final BufferedWriter writer) throws IOException {
+			final int size = (int) Math.min(count, HISTORY_SIZE);
+			// oldest first, so that the order is kept when the history is read back
+			for (int i = 0; i < size; i++) {
+				final int index = (int) ((count - size + i) % HISTORY_SIZE);
+				writer.write(category + "," + values[index] + "," + succeeded[index]);
+				writer.newLine();
+			}
+		}
+
+		// the timed out waits only tell that the timeout was reached, they are not part of the percentiles
+		private long[] successes() {
+			final int size = (int) Math.min(count, HISTORY_SIZE);
+			final long[] result = new long[size];
+			int successes = 0;
+			for (int i = 0; i < size; i++) {
+				if (succeeded[i]) {
+					result[successes++] = values[i];
+				}
+			}
+			return Arrays.copyOf(result, successes);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package amazon.framework.util;
 
+import amazon.framework.util.DomWait.DomCondition;
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 import org.apache.commons.lang3.StringUtils;
@@ -11,13 +12,11 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.By;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static amazon.framework.util.DriverSessionHolder.getDriver;
@@ -71,7 +70,7 @@ public class WebElementHelper {
 	 * @param text
 	 */
 	public static void sendKeysAndCheck(final WebElement element, final String text) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(30))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(30)
 				.withMessage("Time out while trying to input text " + text);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
@@ -96,8 +95,9 @@ public class WebElementHelper {
 	 * @param text
 	 */
 	public static void sendKeysAndCheckLocated(final By by, final String text) {
-		final WebElement element = waitAndGetElement(by, LoadingConstants.RENDER_ELEMENT);
-		sendKeysAndCheck(element, text);
+		waitForElementExist(by, WaitCategory.RENDER);
+		// the input may be refreshed while its value is checked
+		sendKeysAndCheck(SelfHealingElement.of(by), text);
 	}
 
 	public static void sendKeysAtBeginning(final WebElement inputElement, final String value) {
@@ -127,7 +127,7 @@ public class WebElementHelper {
 	}
 
 	public static void sendKeysAndBlurLocated(final By by, final String value) {
-		final WebElement inputElement = waitAndGetElement(by, LoadingConstants.RENDER_ELEMENT);
+		final WebElement inputElement = waitAndGetElement(by);
 		sendKeysAndBlur(inputElement, value);
 	}
 	
@@ -135,7 +135,7 @@ public class WebElementHelper {
 	 * Ticketshop: can not send special keys, this function is used for these case
 	 */
 	public static void sendKeysByJsAndBlurLocated(final By by, final String value) {
-		final WebElement inputElement = waitAndGetElement(by, LoadingConstants.RENDER_ELEMENT);
+		final WebElement inputElement = waitAndGetElement(by);
 		sendKeysByJsAndBlur(inputElement, value);
 	}
 	
@@ -143,7 +143,7 @@ public class WebElementHelper {
 	 * Ticketshop, can not send special keys, this function is used for these case
 	 */
 	public static void sendKeysByJsAndBlur(final WebElement inputElement, final String value) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(60))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(60)
 				.withMessage("Time out while trying to input text " + value);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
@@ -172,30 +172,35 @@ public class WebElementHelper {
 	 */
 	public static WebElement waitAndGetElement(final By by, long timeout) {
 		waitForElementExist(by, timeout);
-		return getDriver().findElement(by);
+		return findElement(by);
 	}
 
 	public static List<WebElement> waitAndGetElements(final By by, long timeout) {
+		return waitAndGetElements(by, WebdriverHelper.newWait(timeout));
+	}
+
+	public static List<WebElement> waitAndGetElements(final By by) {
+		return waitAndGetElements(by, WebdriverHelper.newWait(WaitCategory.RENDER));
+	}
+
+	private static List<WebElement> waitAndGetElements(final By by, final AdaptiveWait<WebDriver> wait) {
 		try {
-			waitForElementExist(by, timeout);
+			waitForElementExist(by, wait);
 		} catch (TimeoutException e) {
 			LOGGER.info(String.format("element: %s not found => Return empty list", by));
 		}
-		return getDriver().findElements(by);
-	}
-
-	public static List<WebElement> waitAndGetElements(final By by) {
-		return waitAndGetElements(by, LoadingConstants.RENDER_ELEMENT);
+		return findElements(by);
 	}
 
     /**
-	 * Wait and find element until it appears. Default timeout = 60s
+	 * Wait and find element until it appears. Default timeout = 60s, tuned by {@link WaitCategory#RENDER}
 	 *
 	 * @param by
 	 * @return
 	 */
 	public static WebElement waitAndGetElement(final By by) {
-		return waitAndGetElement(by, LoadingConstants.RENDER_ELEMENT);
+		waitForElementExist(by, WaitCategory.RENDER);
+		return findElement(by);
 	}
 	
     /**
@@ -207,7 +212,7 @@ public class WebElementHelper {
 	 * @return
 	 */	
 	public static void waitAndClickElement(final By by) {
-		waitAndClick(by, LoadingConstants.RENDER_ELEMENT);
+		waitAndClick(by);
 	}
 
     /**
@@ -217,11 +222,8 @@ public class WebElementHelper {
      * @return String of attributes
      */
     public static String waitAndGetAllElementAttributes(final By by) {
-        WebElement element = waitAndGetElement(by, LoadingConstants.RENDER_ELEMENT);
-        JavascriptExecutor executor = (JavascriptExecutor) getDriver();
-
-        Object attributes = executor.executeScript("var items = {}; for (index = 0; index < arguments[0].attributes.length; ++index) { items[arguments[0].attributes[index].name] = arguments[0].attributes[index].value }; return items;", element);
-        return attributes.toString();
+        waitForElementExist(by, WaitCategory.RENDER);
+        return ElementSnapshot.of(by, ElementSnapshot.ALL_ATTRIBUTES).get(0).getAttributes().toString();
     }
 
 
@@ -257,7 +259,7 @@ public class WebElementHelper {
 	 * @return
 	 */
 	public static WebElement waitAndGetElement(final WebElement parent, final By by, long timeout) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(timeout)
 				.withMessage("Timeout while waiting element " + by);
 		return wait.until(new Function<WebDriver, WebElement>() {
 			@Override
@@ -288,7 +290,7 @@ public class WebElementHelper {
 	 * This function is used to fix issue get text of element when it is blank
 	 */
 	public static WebElement waitAndGetElementUntilTextNotBlank(final By by, long timeout) {
-		final FluentWait<WebDriver> wait = new FluentWait<WebDriver>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(timeout)
 				.withMessage("Timeout while waiting element has text" + by);
 		return wait.until(new Function<WebDriver, WebElement>() {
 			@Override
@@ -306,7 +308,7 @@ public class WebElementHelper {
 	}
 	
 	public static WebElement waitAndGetElementUntilTextRender(final By by, long timeout) {
-		final FluentWait<WebDriver> wait = new FluentWait<WebDriver>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(timeout)
 				.withMessage("Timeout while waiting element has text" + by);
 		return wait.until(new Function<WebDriver, WebElement>() {
 			@Override
@@ -320,7 +322,7 @@ public class WebElementHelper {
 	}
 
 	public static List<WebElement> waitAndGetElements(final WebElement parent, final By by, long timeout) {
-		return new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
+		return WebdriverHelper.newWait(timeout)
 				.withMessage(String.format("Timeout while waiting for elements %s located under %s", by, parent))
 				.until(driver -> parent.findElements(by));
 	}
@@ -341,7 +343,7 @@ public class WebElementHelper {
 	}
 
 	private static Alert waitForAlertPresent() {
-		new WebDriverWait(getDriver(), 20)
+		WebdriverHelper.newWait(20).ignoring(NotFoundException.class)
 				.ignoring(NoAlertPresentException.class)
 				.until(ExpectedConditions.alertIsPresent());
 		return getDriver().switchTo().alert();
@@ -351,7 +353,9 @@ public class WebElementHelper {
 	 * Some elements are never clickable. We can use {@link #waitAndGetElement(By)} then click().
 	 */
 	public static void waitAndClick(final By locator) {
-		waitAndClick(locator, LoadingConstants.RENDER_ELEMENT);
+		waitForElementExist(locator, WaitCategory.RENDER);
+		waitForElementClickable(locator);
+		click(findElement(locator));
 	}
 
 	/**
@@ -360,25 +364,25 @@ public class WebElementHelper {
 	public static void waitAndClick(final By locator, long timeout) {
 		waitForElementExist(locator, timeout);
 		waitForElementClickable(locator, timeout);
-		click(getDriver().findElement(locator));
+		click(findElement(locator));
 	}
 
 	public static void waitForElementClickable(final By locator, long timeout) {
-		new WebDriverWait(getDriver(), timeout).until(ExpectedConditions.elementToBeClickable(locator));
+		WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class).until(ExpectedConditions.elementToBeClickable(locator));
 	}
 
 	public static void waitForElementClickable(final By locator) {
-		waitForElementClickable(locator, LoadingConstants.UPDATE_BUTTON);
+		WebdriverHelper.newWait(WaitCategory.UPDATE_BUTTON).ignoring(NotFoundException.class).until(ExpectedConditions.elementToBeClickable(locator));
 	}
 	
 	public static void waitForElementClickable(final WebElement webelement) {
-		new WebDriverWait(getDriver(), LoadingConstants.UPDATE_BUTTON).until(ExpectedConditions.elementToBeClickable(webelement));
+		WebdriverHelper.newWait(WaitCategory.UPDATE_BUTTON).ignoring(NotFoundException.class).until(ExpectedConditions.elementToBeClickable(webelement));
 	}
 
 	public static void clickUntilOK(final By locator, long timeout, long poolingTime,
 			final Predicate<WebDriver> condition) {
-		FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
-				.pollingEvery(Duration.ofSeconds(poolingTime)).withMessage("Failed to retry click.")
+		FluentWait<WebDriver> wait = WebdriverHelper.newWait(timeout)
+				.pollingFixedEvery(Duration.ofSeconds(poolingTime)).withMessage("Failed to retry click.")
 				.ignoring(NoSuchElementException.class, StaleElementReferenceException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
@@ -398,7 +402,11 @@ public class WebElementHelper {
 	}
 
 	public static WebElement findElement(final By by) {
-		return getDriver().findElement(by);
+		final List<WebElement> elements = findElements(by);
+		if (elements.isEmpty()) {
+			throw new NoSuchElementException("Cannot locate an element using " + by);
+		}
+		return elements.get(0);
 	}
 
 	public static WebElement findElement(final WebElement parent, final By by) {
@@ -408,7 +416,8 @@ public class WebElementHelper {
 	public static List<WebElement> findElements(final By by) {
 		long start = System.currentTimeMillis();
 		try {
-			return WebdriverHelper.logTime(by.toString(), () -> getDriver().findElements(by));
+			return WebdriverHelper.logTime(by.toString(),
+					() -> getDriverSession().getLocatorCache().findElements(getDriver(), by));
 		}finally {
 			if (System.currentTimeMillis() - start > 15_000) {
 				getDriverSession(). setGridSlow(true);
@@ -429,6 +438,7 @@ public class WebElementHelper {
 	 * @param element
 	 */
 	public static void click(final WebElement element) {
+		NetworkIdleTracker.install();
 		// Try to use another way.
 		try {
 			element.click();
@@ -462,6 +472,16 @@ public class WebElementHelper {
 		click(findElement(locator));
 	}
 
+	/**
+	 * Select the option of the dropdown by its text, once the dropdown is present. The requests triggered by the
+	 * selection are tracked, see {@link NetworkIdleTracker#install()}.
+	 */
+	public static void selectByVisibleText(final By locator, final String text) {
+		final Select select = new Select(waitAndGetElement(locator));
+		NetworkIdleTracker.install();
+		select.selectByVisibleText(text);
+	}
+
 	/**
 	 * Send key by TAB
 	 */
@@ -491,36 +511,38 @@ public class WebElementHelper {
 	}
 
 	public static void waitForElementExist(final By locator) {
-		waitForElementExist(locator, LoadingConstants.LOADING_TIMEOUT);
+		waitForElementExist(locator, WaitCategory.ELEMENT_EXIST);
+	}
+
+	/**
+	 * Wait for the element with the timeout of the category, tuned from the previous waits of the category.
+	 */
+	public static void waitForElementExist(final By locator, final WaitCategory category) {
+		waitForElementExist(locator, WebdriverHelper.newWait(category));
 	}
 
 	public static void waitForElementExist(final By locator, final long timeout) {
-		FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
-				.ignoring(StaleElementReferenceException.class)
-				.withMessage(String.format("Timed out after %s seconds waiting for element %s", timeout, locator));
-		wait.until(new Function<WebDriver, Boolean>() {
-			@Override
-			public Boolean apply(WebDriver driver) {
-				return !getDriver().findElements(locator).isEmpty();
-			}
-		});
+		waitForElementExist(locator, WebdriverHelper.newWait(timeout));
 	}
 	
 	public static void waitForElementExist(final By locator, final long timeout, final Duration interval) {
-		FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
-				.ignoring(StaleElementReferenceException.class)
-				.pollingEvery(interval)
+		waitForElementExist(locator, WebdriverHelper.newWait(timeout).pollingEvery(interval));
+	}
+
+	private static void waitForElementExist(final By locator, final AdaptiveWait<WebDriver> wait) {
+		final long timeout = wait.getTimeout().getSeconds();
+		wait.ignoring(StaleElementReferenceException.class)
 				.withMessage(String.format("Timed out after %s seconds waiting for element %s", timeout, locator));
-		wait.until(new Function<WebDriver, Boolean>() {
+		DomWait.until(wait, locator, DomCondition.PRESENT, new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(WebDriver driver) {
-				return !getDriver().findElements(locator).isEmpty();
+				return !getDriverSession().getLocatorCache().findElements(driver, locator).isEmpty();
 			}
 		});
 	}
 
 	public static WebElement waitForElementRefreshedAndGetIt(final WebElement element, final long timeout) {
-		return new WebDriverWait(getDriver(), timeout)
+		return WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class)
 				.pollingEvery(Duration.ofMillis(50))
 				.ignoring(StaleElementReferenceException.class)
 				.until(ExpectedConditions.refreshed(ExpectedConditions.elementToBeClickable(element)));
@@ -531,25 +553,38 @@ public class WebElementHelper {
 	}
 
 	private static void waitForAnyElementExist(final long timeout, final By... locators) {
-		FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
-				.ignoring(StaleElementReferenceException.class);
-		wait.until(new Function<WebDriver, Boolean>() {
-			@Override
-			public Boolean apply(WebDriver driver) {
-				for (By locator : locators) {
-					if (!getDriver().findElements(locator).isEmpty()) {
-						return true;
-					}
-				}
-				return false;
-			}
-		});
+		final PageCondition matched = waitForCondition(PageCondition.anyPresent(locators), timeout);
+		LOGGER.debug("Found " + matched);
+	}
+
+	/**
+	 * Wait for a composite condition, evaluated in one round trip per poll.
+	 *
+	 * @return the matched branch of the condition, see {@link PageCondition}
+	 */
+	public static PageCondition waitForCondition(final PageCondition condition, final long timeout) {
+		return waitForCondition(condition, WebdriverHelper.newWait(timeout));
+	}
+
+	/**
+	 * Wait for a composite condition with the timeout of the category, tuned from the previous waits of the category.
+	 *
+	 * @return the matched branch of the condition, see {@link PageCondition}
+	 */
+	public static PageCondition waitForCondition(final PageCondition condition, final WaitCategory category) {
+		return waitForCondition(condition, WebdriverHelper.newWait(category));
+	}
+
+	private static PageCondition waitForCondition(final PageCondition condition, final AdaptiveWait<WebDriver> wait) {
+		return wait.ignoring(StaleElementReferenceException.class).withMessage(() -> "Waiting for " + condition)
+				.until(condition);
 	}
 
 	public static void waitForElementNotExist(final By locator, final long timeout) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
+		final AdaptiveWait<WebDriver> wait = WebdriverHelper.newWait(timeout)
 				.withMessage("Element is still existing")
 				.ignoring(StaleElementReferenceException.class);
+		DomWait.until(wait, locator, DomCondition.ABSENT, ExpectedConditions.invisibilityOfElementLocated(locator));
 		LOGGER.info(
 				"[END wait for element invisible]. Please structure the test if there is too many waits continuously.");
 	}
@@ -559,7 +594,7 @@ public class WebElementHelper {
 	 */
 	public static void waitForElementNotStale(final By locator, final long timeout) {
 		final FluentWait<WebDriver> wait =
-				new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout));
+				WebdriverHelper.newWait(timeout);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(WebDriver driver) {
@@ -590,7 +625,7 @@ public class WebElementHelper {
 	 */
 	private static void waitForElementAttributeContainsOneOf(final By locator, final long timeout,
 															 final String attribute, final String... expectedContainedValues) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(timeout))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(timeout)
 				.ignoring(StaleElementReferenceException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
@@ -613,7 +648,7 @@ public class WebElementHelper {
 	 * @return
 	 */
 	public static List<WebElement> waitAndGetElementsEqualValue(final By by, final String...inputTextList) {
-		FluentWait<WebDriver> wait = new FluentWait<WebDriver>(getDriver()).withTimeout( Duration.ofSeconds(LoadingConstants.RENDER_ELEMENT_LONG_TIMEOUT))
+		FluentWait<WebDriver> wait = WebdriverHelper.newWait(LoadingConstants.RENDER_ELEMENT_LONG_TIMEOUT)
 				.withMessage("Failed to wait elements equal texts")
 				.ignoring(NoSuchElementException.class, StaleElementReferenceException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
@@ -640,7 +675,7 @@ public class WebElementHelper {
 			}
 		});
 		
-		return waitAndGetElements(by, LoadingConstants.RENDER_ELEMENT);
+		return waitAndGetElements(by);
 	}
 	
 	/**
@@ -650,7 +685,7 @@ public class WebElementHelper {
 	 * @return
 	 */
 	public static List<WebElement> waitElementsContainValue(final By by, final String...inputTextList) {
-		FluentWait<WebDriver> wait = new FluentWait<WebDriver>(getDriver()).withTimeout(Duration.ofSeconds(LoadingConstants.RENDER_ELEMENT_LONG_TIMEOUT))
+		FluentWait<WebDriver> wait = WebdriverHelper.newWait(LoadingConstants.RENDER_ELEMENT_LONG_TIMEOUT)
 				.withMessage("Failed to wait elements contain texts")
 				.ignoring(NoSuchElementException.class, StaleElementReferenceException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
@@ -677,7 +712,7 @@ public class WebElementHelper {
 			}
 		});
 		
-		return waitAndGetElements(by, LoadingConstants.RENDER_ELEMENT);
+		return waitAndGetElements(by);
 	}
 
 
@@ -689,15 +724,13 @@ public class WebElementHelper {
 	 * Wait until the attribute not contains expected values
 	 */
 	public static void waitForElementAttributesNotContains(WebElement webElement, String attribute, String expectedNotContainedValues) {
-		new FluentWait<>(getDriver())
-				.withTimeout(Duration.ofSeconds(10))
+		WebdriverHelper.newWait(10)
 				.ignoring(StaleElementReferenceException.class)
 				.until(d -> !webElement.getAttribute(attribute).contains(expectedNotContainedValues));
 	}
 
 	public static void waitForElementAttributeContains(WebElement webElement, String attribute, String expectedContainedValues) {
-		new FluentWait<>(getDriver())
-				.withTimeout(Duration.ofSeconds(10))
+		WebdriverHelper.newWait(10)
 				.ignoring(StaleElementReferenceException.class)
 				.until(d -> webElement.getAttribute(attribute).contains(expectedContainedValues));
 	}
@@ -719,7 +752,8 @@ public class WebElementHelper {
 	}
 
 	public static WebElement waitForElementVisible(By locator) {
-		return waitForElementVisible(locator, 60);
+		return DomWait.until(WebdriverHelper.newWait(WaitCategory.RENDER).ignoring(NotFoundException.class), locator,
+				DomCondition.VISIBLE, ExpectedConditions.visibilityOfElementLocated(locator));
 	}
 
 	public static WebElement waitForElementVisible(WebElement element) {
@@ -727,11 +761,12 @@ public class WebElementHelper {
 	}
 
 	public static WebElement waitForElementVisible(By locator, long timeout) {
-		return new WebDriverWait(getDriver(), timeout).until(ExpectedConditions.visibilityOfElementLocated(locator));
+		return DomWait.until(WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class), locator,
+				DomCondition.VISIBLE, ExpectedConditions.visibilityOfElementLocated(locator));
 	}
 
 	private static WebElement waitForElementVisible(WebElement element, long timeout) {
-		return new WebDriverWait(getDriver(), timeout).until(ExpectedConditions.visibilityOf(element));
+		return WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class).until(ExpectedConditions.visibilityOf(element));
 	}
 
 	public static void waitForElementInvisible(By locator, long timeout) {
@@ -739,7 +774,7 @@ public class WebElementHelper {
 	}
 
 	public static void waitForElementInvisible(WebElement element, long timeout) {
-		new WebDriverWait(getDriver(), timeout).until(ExpectedConditions.invisibilityOf(element));
+		WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class).until(ExpectedConditions.invisibilityOf(element));
 	}
 
 	public static void waitForElementStoppedMoving(final By locator, long timeout) {
@@ -747,7 +782,8 @@ public class WebElementHelper {
 	}
 	
 	public static void waitForElementStoppedMoving(final WebElement webElement, long timeout) {
-		new WebDriverWait(getDriver(), timeout).pollingEvery(Duration.ofSeconds(1))
+		// fixed pace: the position is compared between two polls
+		WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class).pollingFixedEvery(Duration.ofSeconds(1))
 		.until(new Function<WebDriver, Boolean>() {
 			Point position;
 
@@ -777,7 +813,7 @@ public class WebElementHelper {
 	public static void moveToAndClick(final By locator) {
 		waitForElementExist(locator);
 
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(60))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(60)
 				.ignoring(StaleElementReferenceException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
@@ -843,8 +879,7 @@ public class WebElementHelper {
 	}
 	
 	public static String getTitlePageDiffersText(String value) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofMinutes(2))
-				.pollingEvery(Duration.ofSeconds(1));
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(120);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(final WebDriver driver) {
@@ -860,14 +895,12 @@ public class WebElementHelper {
 	
 	/**
 	 * This method allows empty list.
+	 *
+	 * @return the texts of the elements as {@link WebElement#getText()}, trimmed, empty for the hidden elements, read
+	 *         in one round trip
 	 */
 	public static List<String> getListText(final By selector) {
-		List<WebElement> list = getDriver().findElements(selector);
-		List<String> result = new ArrayList<>();
-		for (WebElement ele : list) {
-			result.add(ele.getText());
-		}
-		return result;
+		return ElementSnapshot.texts(selector);
 	}
 
 	public static void doubleClick(WebElement element) {
@@ -918,7 +951,7 @@ public class WebElementHelper {
 	}
 
 	public static String waitAndGetText(final By by) {
-		return waitAndGetText(by, LoadingConstants.RENDER_ELEMENT);
+		return waitAndGetElement(by).getText();
 	}
 	
 	public static String getTextFirstElementDisplay(final By by) {
@@ -939,7 +972,7 @@ public class WebElementHelper {
 	public static String waitAndGetAttributeValue(final By locator, final String attributeName) {
 		LOGGER.info(String.format("Wait for [%s]", locator.toString()));
 
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(90))
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(90)
 				.ignoring(NoSuchElementException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
@@ -959,8 +992,7 @@ public class WebElementHelper {
 	}
 
 	public static void waitForURLContains(final String... texts) {
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver())
-				.withTimeout(Duration.ofSeconds(LoadingConstants.LOADING_TIMEOUT)).ignoring(NoSuchElementException.class);
+		final FluentWait<WebDriver> wait = WebdriverHelper.newWait(WaitCategory.URL_CHANGE).ignoring(NoSuchElementException.class);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(final WebDriver driver) {
@@ -983,8 +1015,8 @@ public class WebElementHelper {
 
 	public static void tryToClickUntilDisappear(final By locator) {
 		final FluentWait<WebDriver> wait =
-				new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(LoadingConstants.RENDER_ELEMENT))
-				.pollingEvery(LoadingConstants.LOADING_POLLING, TimeUnit.SECONDS);
+				WebdriverHelper.newWait(LoadingConstants.RENDER_ELEMENT)
+				.pollingFixedEvery(Duration.ofSeconds(LoadingConstants.LOADING_POLLING));
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(final WebDriver driver) {
@@ -999,14 +1031,38 @@ public class WebElementHelper {
 
 	/**
 	 * Waiting explicitly some seconds is NEVER a good solution. Please check with development team to have mask on
-	 * screen until it's available to work.
+	 * screen until it's available to work. The sleeps are reported per caller at the end of the run, see
+	 * {@link SleepReport}.
+	 *
+	 * @deprecated use {@link #waitUntilStable(Stabilization, long)}
 	 */
 	@Deprecated
 	public static void waitExplicitly(final long timeInSeconds) {
+		SleepReport.sleep(timeInSeconds);
+	}
+
+	/**
+	 * Replacement of {@link #waitExplicitly(long)}: wait until the page is settled, see
+	 * {@link Stabilization#pageSettled()}.
+	 */
+	public static boolean waitUntilStable(final long maxSeconds) {
+		return waitUntilStable(Stabilization.pageSettled(), maxSeconds);
+	}
+
+	/**
+	 * Replacement of {@link #waitExplicitly(long)}: wait until the page is stable, at most the time of the former
+	 * sleep. Like after the sleep, the test goes on if the page is still not stable.
+	 *
+	 * @return false if the page was not stable within the time
+	 */
+	public static boolean waitUntilStable(final Stabilization stabilization, final long maxSeconds) {
 		try {
-			Thread.sleep(timeInSeconds * 1000);
-		} catch (InterruptedException e) {
-			LOGGER.info("Try to wait in " + timeInSeconds + " but failed.", e);
+			WebdriverHelper.newWait(maxSeconds).ignoring(WebDriverException.class)
+					.withMessage(() -> "Waiting for " + stabilization).until(stabilization::isStable);
+			return true;
+		} catch (TimeoutException e) {
+			LOGGER.info(String.format("Page not stable after %s s (%s), continue test", maxSeconds, stabilization));
+			return false;
 		}
 	}
 
@@ -1043,7 +1099,7 @@ public class WebElementHelper {
 	 * @return WebElement displayed element satisfying provided locator or throws exception if nothing is found
 	 */
 	public static WebElement filterOutInvisibleElements(final By by) {
-		return new WebDriverWait(getDriver(), LoadingConstants.RENDER_ELEMENT)
+		return WebdriverHelper.newWait(WaitCategory.RENDER).ignoring(NotFoundException.class)
 		.ignoring(StaleElementReferenceException.class)
 		.withMessage(String.format("No element By %s was found or no such element was displayed", by))
 		.until(driver -> findElements(by)
@@ -1053,7 +1109,7 @@ public class WebElementHelper {
 	}
 	
 	public static WebElement filterOutInvisibleElements(WebElement parent, final By by) {
-		return new WebDriverWait(getDriver(), LoadingConstants.RENDER_ELEMENT)
+		return WebdriverHelper.newWait(WaitCategory.RENDER).ignoring(NotFoundException.class)
 		.ignoring(StaleElementReferenceException.class)
 		.withMessage(String.format("No element By %s was found or no such element was displayed", by))
 		.until(driver -> findElements(parent, by)
@@ -1063,34 +1119,30 @@ public class WebElementHelper {
 	}
 
 	public static List<WebElement> filterOutElementsBySize(final By by) {
-		if(WebElementHelper.findElements(by).isEmpty())
-		new RuntimeException(String.format("No element By %s was found or no such element was displayed", by));
-		return WebElementHelper.findElements(by).stream().filter(element -> element.getSize().getWidth()>0 && element.getSize().getHeight()>0).collect(Collectors.toList());
-
+		return ElementSnapshot.of(by).stream().filter(ElementSnapshot::hasSize).map(ElementSnapshot::getElement)
+				.collect(Collectors.toList());
 	}
 	
 	public static List<String> getDisplayedElements(final By by) {
-		List<WebElement> newList = WebElementHelper.findElements(by).stream().filter(WebElement::isDisplayed).collect(Collectors.toList());
-		return newList.stream().map(el -> el.getText()).collect(Collectors.toList());
+		return ElementSnapshot.of(by).stream().filter(ElementSnapshot::isDisplayed).map(ElementSnapshot::getText)
+				.collect(Collectors.toList());
 	}
 	
 	public static List<String> getVisibleElements(final By by) {
-		List<WebElement> newList = WebElementHelper.findElements(by).stream().filter(WebElement::isEnabled).collect(Collectors.toList());
-		return newList.stream().map(el -> el.getText()).collect(Collectors.toList());
+		return ElementSnapshot.of(by).stream().filter(ElementSnapshot::isEnabled).map(ElementSnapshot::getText)
+				.collect(Collectors.toList());
 	}
 
 	public static List<WebElement> waitForElementsListSize(final By by, int size, final long timeout) {
 
-		return new WebDriverWait(getDriver(), timeout)
-				.pollingEvery(Duration.ofSeconds(2))
+		return WebdriverHelper.newWait(timeout).ignoring(NotFoundException.class)
 				.ignoring(StaleElementReferenceException.class)
 				.until(ExpectedConditions.numberOfElementsToBe(by,size));
 
 	}
 
 	public static WebElement waitForElementValueIsNotEmpty(By by){
-		new WebDriverWait(getDriver(), 10)
-				.pollingEvery(Duration.ofSeconds(2))
+		WebdriverHelper.newWait(10).ignoring(NotFoundException.class)
 				.ignoring(StaleElementReferenceException.class)
 				.until(e->!JSComponentHelper.getValueJS
 						(WebElementHelper
@@ -1100,8 +1152,7 @@ public class WebElementHelper {
 	}
 
 	public static WebElement waitForElementTextIsNotEmpty(By by){
-		new WebDriverWait(getDriver(), 10)
-				.pollingEvery(Duration.ofSeconds(2))
+		WebdriverHelper.newWait(10).ignoring(NotFoundException.class)
 				.ignoring(StaleElementReferenceException.class)
 				.until(e->!WebElementHelper
 								.waitAndGetElement(by)
@@ -1111,8 +1162,7 @@ public class WebElementHelper {
 	}
 
 	public static WebElement waitForElementTextHasText(By by, String text){
-		new WebDriverWait(getDriver(), 10)
-				.pollingEvery(Duration.ofSeconds(2))
+		WebdriverHelper.newWait(10).ignoring(NotFoundException.class)
 				.ignoring(StaleElementReferenceException.class)
 				.until(e->WebElementHelper
 						.waitAndGetElement(by)
@@ -1148,14 +1198,14 @@ public class WebElementHelper {
                         return ((JavascriptExecutor)driver).executeScript("return document.readyState").equals("complete");
                     }
                 };
-        WebDriverWait wait = new WebDriverWait(getDriver(), 10);
+        FluentWait<WebDriver> wait = WebdriverHelper.newWait(10).ignoring(NotFoundException.class);
         wait.until(pageLoadCondition);
+        WebdriverHelper.waitForNetworkIdle(LoadingConstants.NETWORK_QUIET_MILLIS);
     }
 	
 	public static void waitForElementDisplay(final By locator) {
-		@SuppressWarnings("deprecation")
 		final FluentWait<WebDriver> wait =
-				new FluentWait<>(getDriver()).pollingEvery(LoadingConstants.LOADING_POLLING, TimeUnit.SECONDS) .withTimeout(Duration.ofSeconds(LoadingConstants.RENDER_ELEMENT));
+				WebdriverHelper.newWait(WaitCategory.RENDER);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(final WebDriver driver) {
@@ -1214,7 +1264,7 @@ public class WebElementHelper {
 	
 	public static void waitDatalayerContainsTexts(List<String> listText) {
 		final FluentWait<WebDriver> wait =
-				new FluentWait<>(getDriver()).pollingEvery(30, TimeUnit.SECONDS) .withTimeout(Duration.ofMinutes(2));
+				WebdriverHelper.newWait(120);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@Override
 			public Boolean apply(final WebDriver driver) {
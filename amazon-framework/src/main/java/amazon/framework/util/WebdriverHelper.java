@@ -26,47 +26,25 @@ public class WebdriverHelper {
 	private static final Log LOGGER = LogFactory.getLog(WebdriverHelper.class);
 
 	/**
-	 * Return the {@link WebElement} whose text CONTAINS the one in argument
+	 * Return the {@link WebElement} which has a line of text EQUAL to the one in argument
 	 *
 	 * @param label the label to compare with
 	 * @return the {@link WebElement} that has the good label
+	 * @throws NotFoundException listing the labels of the web elements if none matches
 	 */
 	public static WebElement findWebElementStrong(final List<WebElement> webElements, final String label) {
-
-		WebElement result = findWebElement(webElements, label);
-		if (result != null) {
-			return result;
-		}
-		// Construct a convenient error message for debugging
-		StringBuilder webLabels = new StringBuilder();
-		boolean firstElement = true;
-		for (final WebElement we : webElements) {
-			if (firstElement) {
-				firstElement = false;
-			} else {
-				webLabels.append(", ");
-			}
-			final String weLabel = we.getText().trim();
-			webLabels.append("'").append(weLabel).append("'");
-		}
-
-		throw new NotFoundException(
-				"No web element found with text='" + label + "' in the list of following web elements : " + webLabels);
+		// the labels for the error message come with the match
+		return LabelMatch.of(webElements, label, LabelMatch.Mode.EXACT).getElementStrong();
 	}
 
+	/**
+	 * Compare name product exactly, if not can select product in case there are products contain name. See
+	 * {@link LabelMatch} for the other ways to match.
+	 *
+	 * @return the {@link WebElement} which has a line of text equal to the label, null if there is none
+	 */
 	public static WebElement findWebElement(final List<WebElement> webElements, final String label) {
-		for (final WebElement we : webElements) {
-			final String weLabel = we.getText().trim();
-			String[] labels = weLabel.split("\n");
-			// compare name product exactly, if not can select product in case there are
-			// products contain name
-			for (String wLabel : labels) {
-				if (label.equals(wLabel)) {
-					return we;
-				}
-			}
-		}
-		return null;
+		return LabelMatch.of(webElements, label, LabelMatch.Mode.EXACT).getElement();
 	}
 
 	public static <P> P constructPageObject(final Class<P> pageObject) {
@@ -93,6 +71,31 @@ public class WebdriverHelper {
 		return constructPageObject(pageObject, driver).get();
 	}
 
+	/**
+	 * Create a wait on the browser of the current thread, all the waits of the helpers go through it. The timeout is
+	 * scaled according to the latency of the browser, see {@link LoadingConstants#adapt(long)}, and the polling backs
+	 * off up to the polling interval of the browser, see {@link AdaptiveWait}. The wait respects the budget of the
+	 * current step, see {@link WaitDeadline}.
+	 *
+	 * @param timeoutInSeconds nominal timeout
+	 */
+	public static AdaptiveWait<WebDriver> newWait(final long timeoutInSeconds) {
+		return new AdaptiveWait<>(getDriver()).withTimeout(Duration.ofSeconds(LoadingConstants.adapt(timeoutInSeconds)))
+				.pollingEvery(LoadingConstants.pollingInterval()).withCategory(WaitCategory.OTHER)
+				.withDeadline(WaitDeadline.current());
+	}
+
+	/**
+	 * Create a wait of the category, with the timeout and polling interval tuned from the history of the waits of the
+	 * category, see {@link LoadingConstants#timeout(WaitCategory)}.
+	 */
+	public static AdaptiveWait<WebDriver> newWait(final WaitCategory category) {
+		return new AdaptiveWait<>(getDriver())
+				.withTimeout(Duration.ofSeconds(LoadingConstants.adapt(LoadingConstants.timeout(category))))
+				.pollingEvery(LoadingConstants.pollingInterval(category)).withCategory(category)
+				.withDeadline(WaitDeadline.current());
+	}
+
 	public static <T> T logTime(final String category, Supplier<T> supplier) {
 		long start = System.currentTimeMillis();
 		try {
@@ -116,7 +119,7 @@ public class WebdriverHelper {
 	
 	public static void actionWithAlert(boolean isAccept) {
 		if (isAlertPresent()) {
-			final FluentWait<WebDriver> wait = new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(5))
+			final FluentWait<WebDriver> wait = newWait(5)
 					.withMessage("Time out while trying to cancel alert!");
 			wait.until(new Function<WebDriver, Boolean>() {
 				@Override
@@ -150,7 +153,7 @@ public class WebdriverHelper {
 	 */
 	public static boolean isAlertPresent() {
 		try {
-			new WebDriverWait(getDriver(), 3)
+			newWait(3).ignoring(NotFoundException.class)
 					.ignoring(NoAlertPresentException.class)
 					.until(ExpectedConditions.alertIsPresent());
 			getDriver().switchTo().alert();
@@ -168,7 +171,7 @@ public class WebdriverHelper {
 	 */
 	public static boolean isAlertPresent(long timeout) {
 		try {
-			new WebDriverWait(getDriver(), timeout)
+			newWait(timeout).ignoring(NotFoundException.class)
 					.ignoring(NoAlertPresentException.class)
 					.until(ExpectedConditions.alertIsPresent());
 			getDriver().switchTo().alert();
@@ -188,6 +191,27 @@ public class WebdriverHelper {
 		}
 	}
 
+	/**
+	 * Read the url and the title of the current page in one round trip.
+	 *
+	 * @return the url, then the title
+	 */
+	public static String[] getUrlAndTitle(final WebDriver driver) {
+		if (driver instanceof JavascriptExecutor) {
+			try {
+				final Object urlAndTitle = ((JavascriptExecutor) driver)
+						.executeScript("return [window.location.href, document.title];");
+				if (urlAndTitle instanceof List) {
+					final List<?> values = (List<?>) urlAndTitle;
+					return new String[] { String.valueOf(values.get(0)), String.valueOf(values.get(1)) };
+				}
+			} catch (WebDriverException e) {
+				LOGGER.debug("Cannot read the url and title by script, read them through the driver", e);
+			}
+		}
+		return new String[] { driver.getCurrentUrl(), driver.getTitle() };
+	}
+
 	/**
 	 * For windows with same url, we have to identify to latest window.
 	 */
@@ -206,8 +230,7 @@ public class WebdriverHelper {
 
 	public static void waitUntilDocumentReady() {
 		try {
-			final FluentWait<WebDriver> wait = new FluentWait<>(getDriver())
-					.withTimeout(Duration.ofSeconds(LoadingConstants.LOADING_TIMEOUT))
+			final FluentWait<WebDriver> wait = newWait(WaitCategory.DOCUMENT_READY)
 					.withMessage("Time out while waiting for document ready state").ignoring(WebDriverException.class);
 			wait.until(new Function<WebDriver, Boolean>() {
 				@Override
@@ -222,6 +245,31 @@ public class WebdriverHelper {
 
 	}
 
+	/**
+	 * Wait until the page has no pending request nor short timer for the quiet period, see
+	 * {@link NetworkIdleTracker}. Best effort, a page never idle is logged.
+	 */
+	public static void waitForNetworkIdle(final long quietMillis) {
+		NetworkIdleTracker.waitForIdle(quietMillis);
+	}
+
+	/**
+	 * Bring a running browser back to a neutral state so that it can be reused by another test: delete all cookies
+	 * and refresh the current page.
+	 *
+	 * @return false if the browser is in an unexpected state and should be quit
+	 */
+	public static boolean resetForReuse(final WebDriver webDriver) {
+		try {
+			webDriver.manage().deleteAllCookies();
+			webDriver.navigate().refresh();
+			return true;
+		} catch (WebDriverException we) {
+			LOGGER.warn("Refreshing failed. Unexpected state", we);
+			return false;
+		}
+	}
+
 	public static Cookie getCookieAndCloseBrowser(final WebDriver webDriver, String cookieName) {
 		Cookie cookie = webDriver.manage().getCookieNamed(cookieName);
 		webDriver.quit();
@@ -249,7 +297,7 @@ public class WebdriverHelper {
 		Set<String> windows = getDriver().getWindowHandles();
 		
 		final Wait<WebDriver> wait =
-				new FluentWait<>(getDriver()).withTimeout(Duration.ofSeconds(60));
+				newWait(60);
 		wait.until(new Function<WebDriver, Boolean>() {
 			@SuppressWarnings("unlikely-arg-type")
 			@Override
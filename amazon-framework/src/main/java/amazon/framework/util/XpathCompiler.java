@@ -0,0 +1,407 @@
+package amazon.framework.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compile XPath locators to equivalent CSS selectors, which the browsers evaluate much faster. <br>
+ * Supported subset: absolute paths starting with "//", child and descendant steps with element names or "*", and
+ * predicates combining with "and" the tests @attr, @attr='v', contains(@attr,'v'), starts-with(@attr,'v'), not() of one
+ * of them, and a position ([n] or [last()]) as first predicate. Anything else (text predicates, "or", other axes,
+ * nested paths, unions...) is not compiled and stays an XPath. <br>
+ * Disabled with -D{@value #COMPILE_PROPERTY}=false.
+ */
+public final class XpathCompiler {
+
+	private static final Log LOGGER = LogFactory.getLog(XpathCompiler.class);
+
+	public static final String COMPILE_PROPERTY = "webdriver.xpath.compile";
+
+	// compiled selectors by XPath, NOT_COMPILABLE for the XPath outside of the subset
+	private static final Map<String, String> COMPILED = new ConcurrentHashMap<>();
+	private static final String NOT_COMPILABLE = "";
+	private static final int MAX_COMPILED = 10_000;
+
+	/*
+	 * In HTML documents, CSS matches the values of these attributes ignoring the case while XPath does not: their
+	 * predicates are not compiled. See "case-sensitivity of selectors" in the HTML specification.
+	 */
+	private static final Set<String> CASE_INSENSITIVE_ATTRIBUTES = new HashSet<>(Arrays.asList("accept",
+			"accept-charset", "align", "alink", "axis", "bgcolor", "charset", "checked", "clear", "codetype", "color",
+			"compact", "declare", "defer", "dir", "direction", "disabled", "enctype", "face", "frame", "hreflang",
+			"http-equiv", "lang", "language", "link", "media", "method", "multiple", "nohref", "noresize", "noshade",
+			"nowrap", "readonly", "rel", "rev", "rules", "scope", "scrolling", "selected", "shape", "target", "text",
+			"type", "valign", "valuetype", "vlink"));
+
+	private static final Pattern NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_-]*");
+
+	private XpathCompiler() {
+		// to hide constructor
+	}
+
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty(COMPILE_PROPERTY, "true"));
+	}
+
+	/**
+	 * @return the CSS selector matching the same elements as the XPath in the document, null if the XPath is outside of
+	 *         the supported subset
+	 */
+	public static String toCss(final String xpath) {
+		String css = COMPILED.get(xpath);
+		if (css == null) {
+			css = compile(xpath);
+			if (COMPILED.size() >= MAX_COMPILED) {
+				// the locators formatted with texts are never compilable, do not keep them forever
+				COMPILED.clear();
+			}
+			COMPILED.put(xpath, css);
+		}
+		return css.isEmpty() ? null : css;
+	}
+
+	/**
+	 * @return a CSS locator equivalent to the XPath locator, else the locator itself
+	 */
+	public static By optimize(final By locator) {
+		final String prefix = "By.xpath: ";
+		final String description = locator.toString();
+		if (!isEnabled() || !description.startsWith(prefix)) {
+			return locator;
+		}
+		final String css = toCss(description.substring(prefix.length()));
+		return css != null ? By.cssSelector(css) : locator;
+	}
+
+	private static String compile(final String xpath) {
+		try {
+			final String css = new Parser(xpath).path();
+			LOGGER.debug(String.format("XPath %s compiled to CSS %s", xpath, css));
+			return css;
+		} catch (NotCompilable e) {
+			LOGGER.debug(String.format("XPath %s not compiled to CSS: %s", xpath, e.getMessage()));
+			return NOT_COMPILABLE;
+		}
+	}
+
+	/**
+	 * Time of the evaluation in the browser of an XPath and of its CSS equivalent, see {@link #benchmark(WebDriver,
+	 * String, int)}.
+	 */
+	public static final class Benchmark {
+
+		private final String xpath;
+		private final String css;
+		private final double xpathMillis;
+		private final double cssMillis;
+		private final long matches;
+		private final boolean sameMatches;
+
+		private Benchmark(final String xpath, final String css, final Map<?, ?> result) {
+			this.xpath = xpath;
+			this.css = css;
+			this.xpathMillis = ((Number) result.get("xpathMillis")).doubleValue();
+			this.cssMillis = ((Number) result.get("cssMillis")).doubleValue();
+			this.matches = ((Number) result.get("matches")).longValue();
+			this.sameMatches = Boolean.TRUE.equals(result.get("sameMatches"));
+		}
+
+		public String getXpath() {
+			return xpath;
+		}
+
+		public String getCss() {
+			return css;
+		}
+
+		/**
+		 * @return the time of all the evaluations of the XPath
+		 */
+		public double getXpathMillis() {
+			return xpathMillis;
+		}
+
+		/**
+		 * @return the time of all the evaluations of the CSS selector
+		 */
+		public double getCssMillis() {
+			return cssMillis;
+		}
+
+		public long getMatches() {
+			return matches;
+		}
+
+		/**
+		 * @return true if the XPath and the CSS selector match the same elements in the same order
+		 */
+		public boolean isSameMatches() {
+			return sameMatches;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s -> %s: %s matches%s, XPath %.1f ms, CSS %.1f ms (x%.1f)", xpath, css, matches,
+					sameMatches ? "" : " (DIFFERENT)", xpathMillis, cssMillis,
+					cssMillis > 0 ? xpathMillis / cssMillis : Double.POSITIVE_INFINITY);
+		}
+	}
+
+	/**
+	 * Evaluate the XPath and its CSS equivalent in the current page (see selector-benchmark.js), and check that they
+	 * match the same elements.
+	 *
+	 * @throws IllegalArgumentException if the XPath is not compilable
+	 */
+	public static Benchmark benchmark(final WebDriver driver, final String xpath, final int iterations) {
+		final String css = compile(xpath);
+		if (css.isEmpty()) {
+			throw new IllegalArgumentException("XPath not compilable to CSS: " + xpath);
+		}
+		final Object result = ((JavascriptExecutor) driver).executeScript(
+				JSComponentHelper.loadScript("selector-benchmark.js"), xpath, css, iterations);
+		return new Benchmark(xpath, css, (Map<?, ?>) result);
+	}
+
+	private static final class NotCompilable extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private NotCompilable(final String reason) {
+			super(reason, null, false, false);
+		}
+	}
+
+	/**
+	 * Recursive descent over the supported subset, failing with {@link NotCompilable} on anything else.
+	 */
+	private static final class Parser {
+
+		private final String xpath;
+		private int position;
+
+		private Parser(final String xpath) {
+			this.xpath = xpath;
+		}
+
+		private String path() {
+			if (!xpath.startsWith("//")) {
+				throw new NotCompilable("only absolute paths starting with // are supported");
+			}
+			final StringBuilder css = new StringBuilder();
+			while (position < xpath.length()) {
+				if (xpath.startsWith("//", position)) {
+					position += 2;
+					css.append(css.length() == 0 ? "" : " ");
+				} else if (xpath.startsWith("/", position)) {
+					position++;
+					css.append(" > ");
+				} else {
+					throw unexpected();
+				}
+				css.append(step());
+			}
+			return css.toString();
+		}
+
+		private String step() {
+			final String name;
+			if (xpath.startsWith("*", position)) {
+				position++;
+				name = "*";
+			} else {
+				name = match(NAME, "element name");
+			}
+			final StringBuilder predicates = new StringBuilder();
+			boolean first = true;
+			while (position < xpath.length() && xpath.charAt(position) == '[') {
+				position++;
+				skipSpaces();
+				if (first && position < xpath.length() && Character.isDigit(xpath.charAt(position))) {
+					predicates.append(position(name));
+				} else if (first && xpath.startsWith("last()", position)) {
+					position += "last()".length();
+					predicates.append("*".equals(name) ? ":last-child" : ":last-of-type");
+				} else {
+					predicates.append(and());
+				}
+				skipSpaces();
+				expect("]");
+				first = false;
+			}
+			if (position < xpath.length() && xpath.charAt(position) != '/') {
+				throw unexpected();
+			}
+			if ("*".equals(name)) {
+				return predicates.length() == 0 ? "*" : predicates.toString();
+			}
+			return name + predicates;
+		}
+
+		private String position(final String name) {
+			final int start = position;
+			while (position < xpath.length() && Character.isDigit(xpath.charAt(position))) {
+				position++;
+			}
+			final String index = xpath.substring(start, position);
+			return String.format("*".equals(name) ? ":nth-child(%s)" : ":nth-of-type(%s)", index);
+		}
+
+		private String and() {
+			final StringBuilder css = new StringBuilder(test());
+			while (keyword("and")) {
+				css.append(test());
+			}
+			if (keyword("or")) {
+				throw new NotCompilable("'or' is not supported");
+			}
+			return css.toString();
+		}
+
+		private String test() {
+			skipSpaces();
+			if (function("not")) {
+				final String negated = attributeTest();
+				skipSpaces();
+				expect(")");
+				return ":not(" + negated + ")";
+			}
+			return attributeTest();
+		}
+
+		private String attributeTest() {
+			skipSpaces();
+			if (function("contains")) {
+				return attributeFunction("*=");
+			}
+			if (function("starts-with")) {
+				return attributeFunction("^=");
+			}
+			final String attribute = attribute();
+			skipSpaces();
+			if (xpath.startsWith("!=", position)) {
+				throw new NotCompilable("!= is not supported");
+			}
+			if (!xpath.startsWith("=", position)) {
+				return "[" + attribute + "]";
+			}
+			position++;
+			final String value = literal();
+			return "[" + attribute + "=" + DomWait.quote(value) + "]";
+		}
+
+		private String attributeFunction(final String operator) {
+			skipSpaces();
+			final String attribute = attribute();
+			skipSpaces();
+			expect(",");
+			final String value = literal();
+			skipSpaces();
+			expect(")");
+			if (value.isEmpty()) {
+				// true for every element in XPath, false for every element in CSS
+				throw new NotCompilable("empty value");
+			}
+			return "[" + attribute + operator + DomWait.quote(value) + "]";
+		}
+
+		private String attribute() {
+			expect("@");
+			final String attribute = match(NAME, "attribute name");
+			if (CASE_INSENSITIVE_ATTRIBUTES.contains(attribute.toLowerCase())) {
+				throw new NotCompilable("CSS ignores the case of the values of @" + attribute);
+			}
+			return attribute;
+		}
+
+		private String literal() {
+			skipSpaces();
+			if (position >= xpath.length()) {
+				throw unexpected();
+			}
+			final char quote = xpath.charAt(position);
+			if (quote != '\'' && quote != '"') {
+				throw new NotCompilable("only literal values are supported");
+			}
+			final int end = xpath.indexOf(quote, position + 1);
+			if (end < 0) {
+				throw unexpected();
+			}
+			final String value = xpath.substring(position + 1, end);
+			position = end + 1;
+			for (char c : value.toCharArray()) {
+				if (Character.isISOControl(c)) {
+					throw new NotCompilable("control characters are not supported");
+				}
+			}
+			return value;
+		}
+
+		/**
+		 * Consume the opening of a function call.
+		 */
+		private boolean function(final String name) {
+			final int start = position;
+			if (xpath.startsWith(name, position)) {
+				position += name.length();
+				skipSpaces();
+				if (xpath.startsWith("(", position)) {
+					position++;
+					return true;
+				}
+			}
+			position = start;
+			return false;
+		}
+
+		private boolean keyword(final String keyword) {
+			final int start = position;
+			skipSpaces();
+			if (position > start && xpath.startsWith(keyword, position)
+					&& position + keyword.length() < xpath.length()
+					&& Character.isWhitespace(xpath.charAt(position + keyword.length()))) {
+				position += keyword.length();
+				return true;
+			}
+			position = start;
+			return false;
+		}
+
+		private String match(final Pattern pattern, final String expected) {
+			final Matcher matcher = pattern.matcher(xpath).region(position, xpath.length());
+			if (!matcher.lookingAt()) {
+				throw new NotCompilable(String.format("%s expected at %s", expected, position));
+			}
+			position = matcher.end();
+			return matcher.group();
+		}
+
+		private void expect(final String token) {
+			if (!xpath.startsWith(token, position)) {
+				throw new NotCompilable(String.format("'%s' expected at %s", token, position));
+			}
+			position += token.length();
+		}
+
+		private void skipSpaces() {
+			while (position < xpath.length() && Character.isWhitespace(xpath.charAt(position))) {
+				position++;
+			}
+		}
+
+		private NotCompilable unexpected() {
+			return new NotCompilable("unsupported syntax at " + position);
+		}
+	}
+}
@@ -1,12 +1,6 @@
 package amazon.framework.util;
 
-import com.google.common.collect.Lists;
-import org.apache.commons.lang3.StringUtils;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
 /**
  * This class solves common issues with WebElement. <br>
@@ -16,71 +10,52 @@ import java.util.stream.Collectors;
  * tag "a" inside the "li". So, we should click another visible tag "a".</li>
  */
 public class XpathHelper {
-	private static final String CONTAINS_IGNORE_CASE =
-			"contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÜÉÈÊÀÁÂÒÓÔÙÚÛÇÅÏÕÑŒ','abcdefghijklmnopqrstuvwxyzäöüéèêàáâòóôùúûçåïõñœ'),'%s')";
-	private static final String EQUALS_IGNORE_CASE =
-			"translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÜÉÈÊÀÁÂÒÓÔÙÚÛÇÅÏÕÑŒ','abcdefghijklmnopqrstuvwxyzäöüéèêàáâòóôùúûçåïõñœ')='%s'";
-	private static final String CONTAINS = "contains(., '%s')";
-	private static final String NOT_CONTAINS = "(not(contains(., '%s')))";
-	private static final String EQUAL = ".='%s'";
+	private static final String UPPER_CASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÜÉÈÊÀÁÂÒÓÔÙÚÛÇÅÏÕÑŒ";
+	private static final String LOWER_CASE = "abcdefghijklmnopqrstuvwxyzäöüéèêàáâòóôùúûçåïõñœ";
+	private static final XpathTemplate CONTAINS_IGNORE_CASE =
+			XpathTemplate.compile("contains(translate(.,'" + UPPER_CASE + "','" + LOWER_CASE + "'),%s)");
+	private static final XpathTemplate EQUALS_IGNORE_CASE =
+			XpathTemplate.compile("translate(.,'" + UPPER_CASE + "','" + LOWER_CASE + "')=%s");
+	private static final XpathTemplate CONTAINS = XpathTemplate.compile("contains(., %s)");
+	private static final XpathTemplate STARTS_WITH = XpathTemplate.compile("starts-with(., %s)");
+	private static final XpathTemplate NOT_CONTAINS = XpathTemplate.compile("(not(contains(., %s)))");
+	private static final XpathTemplate EQUAL = XpathTemplate.compile(".=%s");
+	private static final XpathTemplate ENDS_WITH =
+			XpathTemplate.compile("//span[substring(., string-length(.)- string-length(%s) +1) = %s]");
 
 	/***
 	 * Ex: if addString contains ['], replace ['] to ["] original = //div[@id='option_list_box' and contains(.,'%s')]
-	 * addString = I'm here return //div[@id="option_list_box" and contains(.,"%s")]
+	 * addString = I'm here return //div[@id="option_list_box" and contains(.,"%s")] <br>
+	 * Fails with values containing both quotes, the helpers below use {@link XpathTemplate#literal(String)} instead.
 	 */
 	public static String formatXpath(String original, String addString) {
 		return addString.contains("'") ? original.replace("'", "\"") : original;
 	}
 
-	/***
-	 * Return not null value array
-	 */
-	private static String[] filterNotNullItems(String... textInLineItems) {
-		List<String> processedLineItems = new ArrayList<>();
-		for (String lineItem : textInLineItems) {
-			if (lineItem != null && !"".equals(lineItem)) {
-				processedLineItems.add(lineItem);
-			}
-		}
-		return processedLineItems.toArray(new String[0]);
-	}
-
 	/**
+	 * @param template
+	 *            condition with one placeholder
 	 * @param andOr
 	 *            = "and" or "or"
-	 * @param lineItems
-	 *            = {"a", "b", "I'm"}
-	 * @return contains(., 'a') andOr contains(., 'b') andOr contains(., "I'm")
+	 * @param items
+	 *            = {"a", "b", "I'm"}, null and empty items are skipped
+	 * @return template('a') andOr template('b') andOr template("I'm")
 	 */
-	private static String contains(String andOr, String... lineItems) {
-		String[] items = filterNotNullItems(lineItems);
-		String andContain = "";
-		for (int i = 1; i < items.length; i++) {
-			String xpath = formatXpath(CONTAINS, items[i]);
-			xpath = String.format(" %s " + xpath, andOr, items[i]);
-			andContain = String.format("%s %s", andContain, xpath);
+	private static String join(XpathTemplate template, String andOr, boolean toLowerCase, String... items) {
+		final StringBuilder xpath = new StringBuilder(64 * items.length);
+		for (String item : items) {
+			if (item == null || item.isEmpty()) {
+				continue;
+			}
+			if (xpath.length() > 0) {
+				xpath.append(' ').append(andOr).append(' ');
+			}
+			template.appendTo(xpath, toLowerCase ? item.toLowerCase() : item);
 		}
-		String contains = formatXpath(CONTAINS, items[0]);
-		return String.format(contains + "%s", items[0], andContain);
-	}
-
-	/**
-	 * @param andOr
-	 *            = "and" or "or"
-	 * @param lineItems
-	 *            = {"a", "b", "I'm"}
-	 * @return not(contains(., 'a')) andOr not(contains(., 'b')) andOr not(contains(., "I'm"))
-	 */
-	private static String notContains(String andOr, String... lineItems) {
-		String[] items = filterNotNullItems(lineItems);
-		String andNotContain = "";
-		for (int i = 1; i < items.length; i++) {
-			String xpath = formatXpath(NOT_CONTAINS, items[i]);
-			xpath = String.format(" %s " + xpath, andOr, items[i]);
-			andNotContain = String.format("%s %s", andNotContain, xpath);
+		if (xpath.length() == 0) {
+			throw new IllegalArgumentException("No text in " + Arrays.toString(items));
 		}
-		String notContains = formatXpath(NOT_CONTAINS, items[0]);
-		return String.format(notContains + "%s", items[0], andNotContain);
+		return xpath.toString();
 	}
 
 	/**
@@ -89,58 +64,46 @@ public class XpathHelper {
 	 * @return contains(., 'a') and contains(., 'b') and contains(., "I'm")
 	 */
 	public static String contains(String... lineItems) {
-		return contains("and", lineItems);
+		return join(CONTAINS, "and", false, lineItems);
 	}
 
 	public static String containsOr(String... lineItems) {
-		return contains("or", lineItems);
+		return join(CONTAINS, "or", false, lineItems);
 	}
 
 	public static String startsWith(String... lineItems) {
-		String result = contains("and", lineItems);
-		return result.replace("contains", "starts-with");
+		return join(STARTS_WITH, "and", false, lineItems);
 	}
 
 	public static String endsWith(String str) {
-		return String.format("//span[substring(., string-length(.)- string-length('%s') +1) = '%s']", str, str);
+		return ENDS_WITH.format(str, str);
 	}
 
 	/**
 	 * @param items
 	 *            = {"a", "b", "I'm"}
 	 * @return contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'a') and
-	 *         contains(translate(., 'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'b') and
-	 *         contains(translate (.,"ABCDEFGHIJKLMNOPQRSTUVWXYZ","abcdefghijklmnopqrstuvwxyz"),"i'm")
+	 *         contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),'b') and
+	 *         contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZ','abcdefghijklmnopqrstuvwxyz'),"i'm")
 	 */
 	public static String containsIgnoreCase(String... items) {
-		return Lists.newArrayList(items).stream().filter(StringUtils::isNotEmpty).map(new Function<String, String>() {
-			@Override
-			public String apply(String item) {
-				return String.format(formatXpath(CONTAINS_IGNORE_CASE, item),item.toLowerCase());
-			}
-		}).collect(Collectors.joining(" and "));
+		return join(CONTAINS_IGNORE_CASE, "and", true, items);
 	}
 
 	public static String equalsIgnoreCase(String... items) {
-		String andContain = "";
-		String itemToLowerCase = "";
-
-		for (int i = 1; i < items.length; i++) {
-			itemToLowerCase = items[i].toLowerCase();
-			String xpath = formatXpath(EQUALS_IGNORE_CASE, itemToLowerCase);
-			xpath = String.format(" and " + xpath, itemToLowerCase);
-			andContain = String.format("%s %s", andContain, xpath);
-		}
-		itemToLowerCase = items[0].toLowerCase();
-		String contains = formatXpath(EQUALS_IGNORE_CASE, itemToLowerCase);
-		return String.format(contains + "%s", itemToLowerCase, andContain);
+		return join(EQUALS_IGNORE_CASE, "and", true, items);
 	}
 
 	public static String equalTextValue(String itemText) {
-		return String.format(formatXpath(EQUAL, itemText), itemText);
+		return EQUAL.format(itemText);
 	}
 
+	/**
+	 * @param lineItems
+	 *            = {"a", "b", "I'm"}
+	 * @return (not(contains(., 'a'))) and (not(contains(., 'b'))) and (not(contains(., "I'm")))
+	 */
 	public static String notContains(String... lineItems) {
-		return notContains("and", lineItems);
+		return join(NOT_CONTAINS, "and", false, lineItems);
 	}
 }
@@ -0,0 +1,122 @@
+package amazon.framework.util;
+
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * XPath with %s placeholders for string values, split once so that building an expression is a single pass over a
+ * StringBuilder. Each value is inserted as an XPath literal: quoted, with concat() when it contains both kinds of
+ * quotes. <br>
+ * Ex: XpathTemplate.compile("//span[contains(@class,'item_name') and contains(., %s)]").locator("I'm")
+ */
+public final class XpathTemplate {
+
+	private static final String PLACEHOLDER = "%s";
+	// locators kept per template, enough for the values used by one page in a polling loop
+	private static final int MAX_LOCATORS = 64;
+
+	private final String[] parts;
+	private final Map<List<String>, By> locators = new LinkedHashMap<List<String>, By>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<List<String>, By> eldest) {
+			return size() > MAX_LOCATORS;
+		}
+	};
+
+	private XpathTemplate(final String[] parts) {
+		this.parts = parts;
+	}
+
+	public static XpathTemplate compile(final String template) {
+		return new XpathTemplate(template.split(PLACEHOLDER, -1));
+	}
+
+	/**
+	 * @return the number of values expected by {@link #format(String...)}
+	 */
+	public int getArity() {
+		return parts.length - 1;
+	}
+
+	/**
+	 * @param values one value per placeholder, inserted as XPath literals
+	 */
+	public String format(final String... values) {
+		final StringBuilder xpath = new StringBuilder(64);
+		appendTo(xpath, values);
+		return xpath.toString();
+	}
+
+	/**
+	 * Same as {@link #format(String...)}, appending to a builder.
+	 */
+	public void appendTo(final StringBuilder xpath, final String... values) {
+		if (values.length != getArity()) {
+			throw new IllegalArgumentException(
+					String.format("%s values expected by %s, got %s", getArity(), this, values.length));
+		}
+		xpath.append(parts[0]);
+		for (int i = 0; i < values.length; i++) {
+			appendLiteral(xpath, values[i]);
+			xpath.append(parts[i + 1]);
+		}
+	}
+
+	/**
+	 * @return the locator of the formatted XPath, the same instance for the same values
+	 */
+	public By locator(final String... values) {
+		final List<String> key = Arrays.asList(values.clone());
+		synchronized (locators) {
+			return locators.computeIfAbsent(key, k -> By.xpath(format(values)));
+		}
+	}
+
+	/**
+	 * @return the value as an XPath literal: 'value', "value" if it contains ', concat('...', "'", '...') if it contains
+	 *         both
+	 */
+	public static String literal(final String value) {
+		final StringBuilder literal = new StringBuilder(value.length() + 2);
+		appendLiteral(literal, value);
+		return literal.toString();
+	}
+
+	static void appendLiteral(final StringBuilder xpath, final String value) {
+		if (value.indexOf('\'') < 0) {
+			xpath.append('\'').append(value).append('\'');
+		} else if (value.indexOf('"') < 0) {
+			xpath.append('"').append(value).append('"');
+		} else {
+			// XPath 1.0 has no escape in literals
+			xpath.append("concat(");
+			int start = 0;
+			int quote;
+			while ((quote = value.indexOf('\'', start)) >= 0) {
+				if (quote > start) {
+					xpath.append('\'').append(value, start, quote).append("',");
+				}
+				xpath.append("\"'\",");
+				start = quote + 1;
+			}
+			if (start < value.length()) {
+				xpath.append('\'').append(value, start, value.length()).append('\'');
+			} else {
+				xpath.setLength(xpath.length() - 1);
+			}
+			xpath.append(')');
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.join(PLACEHOLDER, parts);
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Generation of the DOM for LocatorCache: a MutationObserver bumps it on every mutation, and a new document starts a
+ * new one, so a generation seen twice means that the DOM did not change in between.
+ * arguments: generation known by the caller (null if none), kind ('css' or 'xpath'), selector.
+ * Returns {generation, elements}: elements is null if the known generation is still the current one, else the elements
+ * of the selector.
+ */
+// include locators.js
+
+var known = arguments[0], kind = arguments[1], selector = arguments[2];
+
+if (!window.__domGeneration) {
+	var installed = { document: Date.now().toString(36) + Math.random().toString(36).substring(2), count: 0 };
+	new MutationObserver(function() {
+		installed.count++;
+	}).observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+	window.__domGeneration = installed;
+}
+
+var generation = window.__domGeneration.document + ':' + window.__domGeneration.count;
+if (generation === known) {
+	return { generation: generation, elements: null };
+}
+
+return { generation: generation, elements: findElements(kind, selector) };
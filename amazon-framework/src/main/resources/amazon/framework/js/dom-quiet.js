@@ -0,0 +1,13 @@
+/*
+ * Track the mutations of the DOM, see Stabilization. The observer is installed once per document.
+ * Returns the time in ms since the last mutation (since the installation if none).
+ */
+if (!window.__domQuietTracker) {
+	var installed = { lastMutation: Date.now() };
+	new MutationObserver(function() {
+		installed.lastMutation = Date.now();
+	}).observe(document, { childList: true, subtree: true, attributes: true, characterData: true });
+	window.__domQuietTracker = installed;
+}
+
+return Date.now() - window.__domQuietTracker.lastMutation;
@@ -0,0 +1,5 @@
+/*
+ * Serialize the page for DomSnapshot, without changing it.
+ * Returns {url, html}.
+ */
+return { url: window.location.href, html: document.documentElement.outerHTML };
@@ -0,0 +1,42 @@
+/*
+ * Wait in the page until elements are present, visible or absent. Asynchronous script, see DomWait.
+ * arguments: kind ('css' or 'xpath'), selector, condition ('PRESENT', 'VISIBLE' or 'ABSENT'), timeout in ms, callback.
+ * Calls back with true as soon as the condition holds, with false when the timeout is reached.
+ */
+// include locators.js
+
+var kind = arguments[0], selector = arguments[1], condition = arguments[2], timeout = arguments[3];
+var callback = arguments[arguments.length - 1];
+
+function holds() {
+	var elements = findElements(kind, selector);
+	switch (condition) {
+	case 'VISIBLE':
+		return elements.some(isVisible);
+	case 'ABSENT':
+		return !elements.some(isVisible);
+	default:
+		return elements.length > 0;
+	}
+}
+
+if (holds()) {
+	callback(true);
+} else {
+	var timer;
+	var observer = new MutationObserver(function() {
+		if (holds()) {
+			finish(true);
+		}
+	});
+	var finish = function(result) {
+		observer.disconnect();
+		clearTimeout(timer);
+		callback(result);
+	};
+	observer.observe(document, { childList: true, subtree: true, attributes: true });
+	// style changes without DOM mutation (e.g: a transition) are only seen by this last check
+	timer = setTimeout(function() {
+		finish(holds());
+	}, timeout);
+}
@@ -0,0 +1,47 @@
+/*
+ * Read the text, visibility, size and attributes of elements in one call, see ElementSnapshot.
+ * arguments: kind ('css' or 'xpath', empty to read the given elements), selector, elements, attribute names ('*' for
+ * all the attributes).
+ * Returns one {element, text, displayed, enabled, width, height, attributes} per element, in document order.
+ */
+// include locators.js
+
+var kind = arguments[0], selector = arguments[1], given = arguments[2], names = arguments[3] || [];
+
+function find() {
+	return kind ? findElements(kind, selector) : given || [];
+}
+
+// as WebElement.getAttribute: the property if there is one, else the attribute
+function attribute(element, name) {
+	var property = element[name];
+	if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function') {
+		return typeof property === 'boolean' ? (property ? 'true' : null) : String(property);
+	}
+	return element.getAttribute(name);
+}
+
+return find().map(function(element) {
+	var displayed = isVisible(element);
+	var rect = element.getBoundingClientRect();
+	var attributes = {};
+	if (names.length === 1 && names[0] === '*') {
+		for (var i = 0; i < element.attributes.length; i++) {
+			attributes[element.attributes[i].name] = element.attributes[i].value;
+		}
+	} else {
+		names.forEach(function(name) {
+			attributes[name] = attribute(element, name);
+		});
+	}
+	return {
+		element: element,
+		// as WebElement.getText: the rendered text, empty for hidden elements
+		text: displayed ? textOf(element).trim() : '',
+		displayed: displayed,
+		enabled: !element.disabled,
+		width: rect.width,
+		height: rect.height,
+		attributes: attributes
+	};
+});
@@ -0,0 +1,47 @@
+/*
+ * Fill form fields through the native value setters, see FormFill.
+ * arguments: fields [{kind ('css' or 'xpath'), selector, value}], apply (false to only verify the values).
+ * Returns one status per field: 'ok' if the field holds its value (ignoring the case), 'missing', 'rejected' if the
+ * field cannot be filled by script (not a text field, disabled, read-only), 'mismatch' if the page changed the value.
+ */
+var fields = arguments[0], apply = arguments[1];
+
+function find(field) {
+	if (field.kind === 'xpath') {
+		return document.evaluate(field.selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)
+				.singleNodeValue;
+	}
+	return document.querySelector(field.selector);
+}
+
+// the setter of the prototype, not of the element: frameworks like React track the value through the latter
+function setter(element) {
+	var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype
+			: element instanceof HTMLSelectElement ? HTMLSelectElement.prototype
+			: element instanceof HTMLInputElement ? HTMLInputElement.prototype : null;
+	if (!prototype || element.disabled || element.readOnly
+			|| /^(checkbox|radio|file|button|submit|reset|image)$/i.test(element.type)) {
+		return null;
+	}
+	return Object.getOwnPropertyDescriptor(prototype, 'value').set;
+}
+
+return fields.map(function(field) {
+	var element = find(field);
+	if (!element) {
+		return 'missing';
+	}
+	if (apply) {
+		var set = setter(element);
+		if (!set) {
+			return 'rejected';
+		}
+		set.call(element, field.value);
+		element.dispatchEvent(new Event('input', { bubbles: true }));
+		element.dispatchEvent(new Event('change', { bubbles: true }));
+		if (document.activeElement === element) {
+			element.blur();
+		}
+	}
+	return String(element.value).toLowerCase() === String(field.value).toLowerCase() ? 'ok' : 'mismatch';
+});
@@ -0,0 +1,34 @@
+/*
+ * Find the element whose label matches, see LabelMatch.
+ * arguments: kind ('css' or 'xpath', empty to match the given elements), selector, elements, label, mode (EXACT,
+ * CONTAINS, EXACT_IGNORE_CASE or CONTAINS_IGNORE_CASE).
+ * Returns {index, element, labels}: the first matching element and its index (-1 if none), and the labels of all the
+ * candidates.
+ * A label is the rendered text of the element, as WebElement.getText; each of its lines is compared.
+ */
+// include locators.js
+
+var kind = arguments[0], selector = arguments[1], given = arguments[2], label = arguments[3], mode = arguments[4];
+
+function find() {
+	return kind ? findElements(kind, selector) : given || [];
+}
+
+var ignoreCase = mode.indexOf('IGNORE_CASE') >= 0;
+var contains = mode.indexOf('CONTAINS') === 0;
+var expected = ignoreCase ? label.toLowerCase() : label;
+
+function matches(line) {
+	var actual = ignoreCase ? line.toLowerCase() : line;
+	return contains ? actual.indexOf(expected) >= 0 : actual === expected;
+}
+
+var elements = find();
+var labels = elements.map(renderedText);
+var index = -1;
+for (var i = 0; i < labels.length && index < 0; i++) {
+	if (labels[i].split('\n').some(matches)) {
+		index = i;
+	}
+}
+return { index: index, element: index >= 0 ? elements[index] : null, labels: labels };
@@ -0,0 +1,32 @@
+/*
+ * Functions shared by the scripts which locate elements, included by the line "// include locators.js" (see
+ * JSComponentHelper.loadScript).
+ */
+
+// elements of a CSS selector or of an XPath, in document order
+function findElements(kind, selector) {
+	if (kind === 'xpath') {
+		var result = document.evaluate(selector, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+		var elements = [];
+		for (var i = 0; i < result.snapshotLength; i++) {
+			elements.push(result.snapshotItem(i));
+		}
+		return elements;
+	}
+	return Array.prototype.slice.call(document.querySelectorAll(selector));
+}
+
+function isVisible(element) {
+	var style = window.getComputedStyle(element);
+	return style.display !== 'none' && style.visibility !== 'hidden' && element.getClientRects().length > 0;
+}
+
+// the text as laid out, not trimmed
+function textOf(element) {
+	return element.innerText !== undefined ? element.innerText : element.textContent;
+}
+
+// as WebElement.getText: the rendered text, trimmed, empty for hidden elements
+function renderedText(element) {
+	return isVisible(element) ? textOf(element).trim() : '';
+}
@@ -0,0 +1,153 @@
+/*
+ * Track the pending fetch/XHR requests and short timers of the page, see NetworkIdleTracker.
+ * The tracker is installed once per document, requests started before its installation are not seen.
+ * Recurring work never ends and is not waited for: the timers scheduled by a chain of timers (polling with setTimeout)
+ * and the requests pending for more than 10 s (long polling).
+ * arguments: quiet period in ms, timeout in ms, callback (asynchronous call only).
+ * Synchronous call: returns the state of the page. Asynchronous call: calls back with true as soon as the page is idle
+ * for the quiet period, with false when the timeout is reached.
+ */
+var quiet = arguments[0], timeout = arguments[1];
+var callback = typeof arguments[arguments.length - 1] === 'function' ? arguments[arguments.length - 1] : null;
+
+if (!window.__networkIdleTracker) {
+	var installed = {
+		// start time of each pending request
+		requests: {},
+		requestCount: 0,
+		// chain depth of each pending timer
+		timers: {},
+		timerCount: 0,
+		lastActivity: Date.now(),
+		setTimeout: window.setTimeout,
+		clearTimeout: window.clearTimeout
+	};
+	// longer timers are rather polling, analytics or keep alive, the page does not wait for them
+	var maxTrackedTimer = 2000;
+	// a timer scheduled by the callback of a timer of this depth is part of a recurring chain
+	var maxTimerChain = 3;
+	// chain depth of the timer callback running, 0 outside of timer callbacks
+	var runningDepth = 0;
+	var touch = function() {
+		installed.lastActivity = Date.now();
+	};
+	var requestStarted = function() {
+		var id = ++installed.requestCount;
+		installed.requests[id] = Date.now();
+		touch();
+		return id;
+	};
+	var requestEnded = function(id) {
+		if (installed.requests[id]) {
+			delete installed.requests[id];
+			touch();
+		}
+	};
+	var timerEnded = function(id) {
+		if (installed.timers[id]) {
+			delete installed.timers[id];
+			installed.timerCount--;
+			touch();
+		}
+	};
+
+	var send = XMLHttpRequest.prototype.send;
+	XMLHttpRequest.prototype.send = function() {
+		var id = requestStarted();
+		this.addEventListener('loadend', function() {
+			requestEnded(id);
+		});
+		return send.apply(this, arguments);
+	};
+
+	if (window.fetch) {
+		var fetch = window.fetch;
+		window.fetch = function() {
+			var id = requestStarted();
+			return fetch.apply(this, arguments).then(function(response) {
+				requestEnded(id);
+				return response;
+			}, function(error) {
+				requestEnded(id);
+				throw error;
+			});
+		};
+	}
+
+	window.setTimeout = function(handler, delay) {
+		var args = Array.prototype.slice.call(arguments);
+		if (typeof handler !== 'function' || (delay || 0) > maxTrackedTimer) {
+			return installed.setTimeout.apply(window, args);
+		}
+		var depth = runningDepth + 1;
+		var tracked = depth <= maxTimerChain;
+		var id;
+		args[0] = function() {
+			runningDepth = depth;
+			try {
+				return handler.apply(this, arguments);
+			} finally {
+				runningDepth = 0;
+				if (tracked) {
+					timerEnded(id);
+				}
+			}
+		};
+		id = installed.setTimeout.apply(window, args);
+		if (tracked) {
+			installed.timers[id] = depth;
+			installed.timerCount++;
+		}
+		return id;
+	};
+	window.clearTimeout = function(id) {
+		timerEnded(id);
+		return installed.clearTimeout.apply(window, arguments);
+	};
+
+	window.__networkIdleTracker = installed;
+}
+
+var tracker = window.__networkIdleTracker;
+// requests pending for longer are long polling or streaming, the page does not wait for them
+var maxTrackedRequest = 10000;
+
+function state() {
+	var now = Date.now(), requests = 0, lastActivity = tracker.lastActivity;
+	for (var id in tracker.requests) {
+		var start = tracker.requests[id];
+		if (now - start < maxTrackedRequest) {
+			requests++;
+		} else {
+			// long-lived from now on, the page does not wait for it
+			lastActivity = Math.max(lastActivity, start + maxTrackedRequest);
+		}
+	}
+	return {
+		readyState: document.readyState,
+		requests: requests,
+		timers: tracker.timerCount,
+		idleMillis: requests === 0 && tracker.timerCount === 0 ? now - lastActivity : 0
+	};
+}
+
+function isIdle() {
+	var current = state();
+	return current.readyState === 'complete' && current.idleMillis >= quiet;
+}
+
+if (!callback) {
+	return state();
+}
+
+var start = Date.now();
+(function check() {
+	if (isIdle()) {
+		callback(true);
+	} else if (Date.now() - start >= timeout) {
+		callback(false);
+	} else {
+		// the original setTimeout: the checks of the tracker are not activity of the page
+		tracker.setTimeout.call(window, check, 50);
+	}
+})();
@@ -0,0 +1,66 @@
+/*
+ * Evaluate a composite condition in one call, see PageCondition.
+ * arguments: the condition, a tree of {type, kind, selector, name, value, children}.
+ * Returns null if the condition does not hold, else the path to the matched branch: the index of the matched child
+ * of each ANY on the way, [] when the condition holds without choosing a branch.
+ */
+// include locators.js
+
+var condition = arguments[0];
+
+function find(leaf) {
+	return findElements(leaf.kind, leaf.selector);
+}
+
+function holds(leaf) {
+	switch (leaf.type) {
+	case 'URL_CONTAINS':
+		return window.location.href.indexOf(leaf.value) >= 0;
+	case 'TITLE_CONTAINS':
+		return document.title.indexOf(leaf.value) >= 0;
+	case 'VISIBLE':
+		return find(leaf).some(isVisible);
+	case 'TEXT_CONTAINS':
+		return find(leaf).some(function(element) {
+			return renderedText(element).indexOf(leaf.value) >= 0;
+		});
+	case 'ATTRIBUTE_CONTAINS':
+		return find(leaf).some(function(element) {
+			return (element.getAttribute(leaf.name) || '').indexOf(leaf.value) >= 0;
+		});
+	default:
+		return find(leaf).length > 0;
+	}
+}
+
+function evaluate(node) {
+	var i, path;
+	switch (node.type) {
+	case 'ANY':
+		for (i = 0; i < node.children.length; i++) {
+			path = evaluate(node.children[i]);
+			if (path) {
+				return [i].concat(path);
+			}
+		}
+		return null;
+	case 'ALL':
+		for (i = 0; i < node.children.length; i++) {
+			if (!evaluate(node.children[i])) {
+				return null;
+			}
+		}
+		return [];
+	case 'NONE':
+		for (i = 0; i < node.children.length; i++) {
+			if (evaluate(node.children[i])) {
+				return null;
+			}
+		}
+		return [];
+	default:
+		return holds(node) ? [] : null;
+	}
+}
+
+return evaluate(condition);
@@ -0,0 +1,35 @@
+/*
+ * Compare the evaluation of an XPath and of its CSS equivalent in the page, see XpathCompiler.benchmark.
+ * arguments: xpath, css selector, number of evaluations of each.
+ * Returns {xpathMillis, cssMillis, matches, sameMatches}.
+ */
+// include locators.js
+
+var xpath = arguments[0], css = arguments[1], iterations = arguments[2];
+
+function byXpath() {
+	return findElements('xpath', xpath);
+}
+
+function byCss() {
+	return findElements('css', css);
+}
+
+function time(find) {
+	var start = performance.now();
+	for (var i = 0; i < iterations; i++) {
+		find();
+	}
+	return performance.now() - start;
+}
+
+var xpathMatches = byXpath(), cssMatches = byCss();
+var sameMatches = xpathMatches.length === cssMatches.length && xpathMatches.every(function(element, i) {
+	return element === cssMatches[i];
+});
+return {
+	xpathMillis: time(byXpath),
+	cssMillis: time(byCss),
+	matches: xpathMatches.length,
+	sameMatches: sameMatches
+};
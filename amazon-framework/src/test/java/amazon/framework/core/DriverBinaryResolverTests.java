@@ -0,0 +1,66 @@
+package amazon.framework.core;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Choice of the chromedriver of the cache directory, with fake drivers which only print their version.
+ */
+public class DriverBinaryResolverTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void setUp() {
+		// the fake drivers are shell scripts
+		assumeFalse(SystemUtils.IS_OS_WINDOWS);
+	}
+
+	@Test
+	public void driverOfTheChromeVersionIsPreferredToTheLatestOne() throws IOException {
+		final File driver94 = fakeDriver("94/chromedriver", "94.0.4606.61", 1_000);
+		fakeDriver("95/chromedriver", "95.0.4638.17", 2_000);
+
+		assertThat(DriverBinaryResolver.findInCache(folder.getRoot().toPath(), "chromedriver", "94"))
+				.isEqualTo(driver94.getAbsolutePath());
+	}
+
+	@Test
+	public void latestDriverIsTakenWhenTheBrowserVersionIsUnknown() throws IOException {
+		fakeDriver("chromedriver93", "93.0.4577.63", 1_000);
+		final File driver94 = fakeDriver("chromedriver94", "94.0.4606.61", 2_000);
+
+		assertThat(DriverBinaryResolver.findInCache(folder.getRoot().toPath(), "chromedriver", null))
+				.isEqualTo(driver94.getAbsolutePath());
+	}
+
+	@Test
+	public void noDriverWhenNoneSupportsTheBrowser() throws IOException {
+		fakeDriver("chromedriver93", "93.0.4577.63", 1_000);
+
+		// downloaded instead
+		assertThat(DriverBinaryResolver.findInCache(folder.getRoot().toPath(), "chromedriver", "94")).isNull();
+	}
+
+	private File fakeDriver(final String path, final String version, final long lastModified) throws IOException {
+		final File driver = new File(folder.getRoot(), path);
+		driver.getParentFile().mkdirs();
+		Files.write(driver.toPath(), ("#!/bin/sh\necho \"ChromeDriver " + version + " (fake)\"\n")
+				.getBytes(StandardCharsets.UTF_8));
+		driver.setExecutable(true);
+		driver.setLastModified(lastModified);
+		return driver;
+	}
+}
@@ -0,0 +1,80 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import amazon.framework.core.WebDriverSuppliers.AllWebDrivers;
+import amazon.framework.core.WebDriverSuppliers.AllWebDriversSupplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Theories run without browser: the theories only record the thread running each {@link WebDriverKind}.
+ */
+public class ParallelWebDriverTheoriesTests {
+
+	private static final Map<WebDriverKind, String> THREADS = new ConcurrentHashMap<>();
+	private static CountDownLatch allKindsStarted;
+
+	@Before
+	public void setUp() {
+		System.setProperty(AllWebDriversSupplier.KINDS_PROPERTY, "Chrome,Firefox");
+		THREADS.clear();
+		allKindsStarted = new CountDownLatch(2);
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(AllWebDriversSupplier.KINDS_PROPERTY);
+	}
+
+	@Test
+	public void browsersRunConcurrentlyOnTheirOwnThread() {
+		final Result result = new JUnitCore().run(Request.method(ConcurrentTheory.class, "waitForAllKinds"));
+
+		assertThat(result.getFailures()).isEmpty();
+		assertThat(result.getRunCount()).isEqualTo(1);
+		assertThat(THREADS).containsOnlyKeys(WebDriverKind.Chrome, WebDriverKind.Firefox);
+		assertThat(THREADS.get(WebDriverKind.Chrome)).isEqualTo("webdriver-theories-Chrome");
+		assertThat(THREADS.get(WebDriverKind.Firefox)).isEqualTo("webdriver-theories-Firefox");
+	}
+
+	@Test
+	public void failuresAreReportedPerBrowser() {
+		final Result result = new JUnitCore().run(Request.method(ConcurrentTheory.class, "failOnFirefox"));
+
+		assertThat(result.getFailures()).hasSize(1);
+		assertThat(result.getFailures().get(0).getMessage()).contains("failOnFirefox failed on Firefox")
+				.doesNotContain("Chrome");
+		assertThat(THREADS).containsOnlyKeys(WebDriverKind.Chrome, WebDriverKind.Firefox);
+	}
+
+	@RunWith(ParallelWebDriverTheories.class)
+	public static class ConcurrentTheory {
+
+		@Theory
+		public void waitForAllKinds(@AllWebDrivers final WebDriverKind browser) throws InterruptedException {
+			THREADS.put(browser, Thread.currentThread().getName());
+			allKindsStarted.countDown();
+			// a sequential run would never see both browsers started
+			assertThat(allKindsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+
+		@Theory
+		public void failOnFirefox(@AllWebDrivers final WebDriverKind browser) {
+			THREADS.put(browser, Thread.currentThread().getName());
+			assertThat(browser).isNotEqualTo(WebDriverKind.Firefox);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import amazon.framework.util.FakeDriver;
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Leases of a {@link WebDriverPool} of fake browsers, which record when they are quit.
+ */
+public class WebDriverPoolTests {
+
+	private final List<WebDriver> started = new CopyOnWriteArrayList<>();
+	private final BlockingQueue<WebDriver> quit = new LinkedBlockingQueue<>();
+	private volatile boolean resettable = true;
+
+	private final WebDriverPool pool = new WebDriverPool(2, 1, kind -> {
+		final FakeDriver fake = new FakeDriver(kind + "-" + started.size());
+		fake.answer("quit", args -> quit.add(fake.get()));
+		started.add(fake.get());
+		return fake.get();
+	}, driver -> resettable);
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void browsersAreStartedUpToTheBoundThenWaitedFor() throws InterruptedException {
+		final WebDriver first = pool.lease(WebDriverKind.Chrome);
+		// the second one is started in background
+		final WebDriver second = pool.lease(WebDriverKind.Chrome);
+		assertThat(second).isNotSameAs(first);
+
+		assertThatThrownBy(() -> pool.lease(WebDriverKind.Chrome)).isInstanceOf(WebDriverException.class)
+				.hasMessageContaining("No browser 'Chrome' available in pool after 1 s");
+		assertThat(started).hasSize(2);
+
+		pool.giveBack(WebDriverKind.Chrome, first);
+		assertThat(pool.lease(WebDriverKind.Chrome)).isSameAs(first);
+		// other kinds have their own bound
+		assertThat(pool.lease(WebDriverKind.Firefox)).isNotIn(first, second);
+		assertThat(quit.poll(100, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	public void browserWhichCannotBeResetIsReplaced() throws InterruptedException {
+		final WebDriver first = pool.lease(WebDriverKind.Chrome);
+		pool.lease(WebDriverKind.Chrome);
+
+		resettable = false;
+		pool.giveBack(WebDriverKind.Chrome, first);
+
+		assertThat(quit.poll(5, TimeUnit.SECONDS)).isSameAs(first);
+		final WebDriver replacement = pool.lease(WebDriverKind.Chrome);
+		assertThat(replacement).isNotSameAs(first);
+		assertThat(started).hasSize(3).contains(replacement);
+	}
+
+	@Test
+	public void discardedBrowserFreesItsSlot() throws InterruptedException {
+		final WebDriver first = pool.lease(WebDriverKind.Chrome);
+		final WebDriver second = pool.lease(WebDriverKind.Chrome);
+
+		pool.discard(WebDriverKind.Chrome, second);
+
+		assertThat(quit.poll(5, TimeUnit.SECONDS)).isSameAs(second);
+		assertThat(pool.lease(WebDriverKind.Chrome)).isNotIn(first, second);
+	}
+
+	@Test
+	public void browsersGivenBackAfterShutdownAreQuit() throws InterruptedException {
+		final WebDriver first = pool.lease(WebDriverKind.Chrome);
+
+		pool.shutdown();
+		assertThat(pool.isEnabled()).isFalse();
+		pool.giveBack(WebDriverKind.Chrome, first);
+
+		// as well as the idle one started in background
+		final List<WebDriver> quitDrivers = new ArrayList<>();
+		while (quitDrivers.size() < started.size()) {
+			final WebDriver driver = quit.poll(5, TimeUnit.SECONDS);
+			assertThat(driver).as("quit browsers among %s", started).isNotNull();
+			quitDrivers.add(driver);
+		}
+		assertThat(quitDrivers).containsExactlyInAnyOrderElementsOf(started).contains(first);
+	}
+}
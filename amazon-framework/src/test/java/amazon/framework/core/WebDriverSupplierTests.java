@@ -0,0 +1,141 @@
+package amazon.framework.core;
+
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverKind;
+import amazon.framework.core.AbstractWebDriverTestCase.WebDriverSupplier;
+import amazon.framework.util.ExponentialBackoff;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Remote session creation against a local fake hub, which answers the "new session" command only.
+ */
+public class WebDriverSupplierTests {
+
+	private static final String SESSION_CREATED =
+			"{\"value\": {\"sessionId\": \"fake-session\", \"capabilities\": {\"browserName\": \"chrome\"}}}";
+	private static final String SESSION_NOT_CREATED =
+			"{\"value\": {\"error\": \"session not created\", \"message\": \"grid is saturated\"}}";
+
+	private HttpServer hub;
+	private URL hubUrl;
+	private final AtomicBoolean healthy = new AtomicBoolean();
+	private final AtomicInteger sessionRequests = new AtomicInteger();
+
+	@Before
+	public void startFakeHub() throws IOException {
+		hub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		hub.createContext("/wd/hub/session", exchange -> {
+			sessionRequests.incrementAndGet();
+			final byte[] body = (healthy.get() ? SESSION_CREATED : SESSION_NOT_CREATED)
+					.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(healthy.get() ? 200 : 500, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		hub.start();
+		hubUrl = new URL("http://localhost:" + hub.getAddress().getPort() + "/wd/hub");
+		SessionCreationMetrics.reset();
+	}
+
+	@After
+	public void stopFakeHub() {
+		hub.stop(0);
+	}
+
+	@Test
+	public void createsSessionAndRecordsLatency() {
+		healthy.set(true);
+		final HubCircuitBreaker breaker = new HubCircuitBreaker(hubUrl.toString(), 3, 60_000);
+
+		final RemoteWebDriver driver = supplier(breaker, 3).get();
+
+		assertThat(driver.getSessionId().toString()).isEqualTo("fake-session");
+		assertThat(sessionRequests.get()).isEqualTo(1);
+		assertThat(SessionCreationMetrics.getPercentile(WebDriverKind.Chrome, 99)).isGreaterThanOrEqualTo(0);
+		assertThat(breaker.getState()).isEqualTo(HubCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	public void failsFastOnceTheCircuitIsOpen() {
+		final HubCircuitBreaker breaker = new HubCircuitBreaker(hubUrl.toString(), 2, 60_000);
+
+		assertThatThrownBy(() -> supplier(breaker, 5).get()).isInstanceOf(WebDriverException.class)
+				.hasMessageContaining("unhealthy");
+		assertThat(sessionRequests.get()).isEqualTo(2);
+		assertThat(breaker.getState()).isEqualTo(HubCircuitBreaker.State.OPEN);
+
+		// other workers do not reach the hub either
+		assertThatThrownBy(() -> supplier(breaker, 5).get()).isInstanceOf(WebDriverException.class);
+		assertThat(sessionRequests.get()).isEqualTo(2);
+		assertThat(SessionCreationMetrics.getPercentile(WebDriverKind.Chrome, 50)).isEqualTo(-1);
+	}
+
+	@Test
+	public void closesTheCircuitWhenTheHubRecovers() throws InterruptedException {
+		final HubCircuitBreaker breaker = new HubCircuitBreaker(hubUrl.toString(), 1, 50);
+		assertThatThrownBy(() -> supplier(breaker, 1).get()).isInstanceOf(WebDriverException.class);
+		assertThat(breaker.getState()).isEqualTo(HubCircuitBreaker.State.OPEN);
+
+		Thread.sleep(100);
+		healthy.set(true);
+		supplier(breaker, 1).get();
+
+		assertThat(breaker.getState()).isEqualTo(HubCircuitBreaker.State.CLOSED);
+		assertThat(sessionRequests.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void errorOfTheHalfOpenProbeReopensTheCircuit() throws InterruptedException {
+		final HubCircuitBreaker breaker = new HubCircuitBreaker(hubUrl.toString(), 1, 200);
+		assertThatThrownBy(() -> supplier(breaker, 1).get()).isInstanceOf(WebDriverException.class);
+		Thread.sleep(250);
+
+		final WebDriverSupplier failing = new WebDriverSupplier(WebDriverKind.Chrome, hubUrl, 3,
+				new ExponentialBackoff(1, 5), breaker, (url, capabilities) -> {
+					throw new NoClassDefFoundError("org/openqa/selenium/remote/http/HttpClient");
+				});
+		assertThatThrownBy(failing::get).isInstanceOf(NoClassDefFoundError.class);
+
+		// not stuck half open: fails fast until the open duration has elapsed again
+		assertThat(breaker.getState()).isEqualTo(HubCircuitBreaker.State.OPEN);
+		assertThat(breaker.getRemainingOpenMillis()).isGreaterThan(0);
+		Thread.sleep(250);
+		healthy.set(true);
+		supplier(breaker, 1).get();
+		assertThat(breaker.getState()).isEqualTo(HubCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	public void backoffGrowsExponentiallyUpToTheMaxDelay() {
+		final ExponentialBackoff backoff = new ExponentialBackoff(100, 1000);
+
+		assertThat(backoff.getMaxDelayMillis(1)).isEqualTo(100);
+		assertThat(backoff.getMaxDelayMillis(3)).isEqualTo(400);
+		assertThat(backoff.getMaxDelayMillis(10)).isEqualTo(1000);
+		for (int attempt = 1; attempt < 10; attempt++) {
+			assertThat(backoff.getDelayMillis(attempt)).isBetween(0L, backoff.getMaxDelayMillis(attempt));
+		}
+	}
+
+	private WebDriverSupplier supplier(final HubCircuitBreaker breaker, final int maxAttempts) {
+		return new WebDriverSupplier(WebDriverKind.Chrome, hubUrl, maxAttempts, new ExponentialBackoff(1, 5), breaker,
+				RemoteWebDriver::new);
+	}
+}
@@ -0,0 +1,124 @@
+package amazon.framework.util;
+
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Polling of {@link AdaptiveWait} on a fake clock, advanced by the sleeps of the wait.
+ */
+public class AdaptiveWaitTests {
+
+	private final FakeClock clock = new FakeClock();
+	private final List<Long> sleeps = new ArrayList<>();
+	private final Sleeper sleeper = duration -> {
+		sleeps.add(duration.toMillis());
+		clock.now = clock.now.plus(duration);
+	};
+
+	@Test
+	public void pollingBacksOffUpToTheInterval() {
+		final AdaptiveWait<String> wait = new AdaptiveWait<>("input", clock, sleeper).withTimeout(Duration.ofSeconds(10))
+				.pollingEvery(Duration.ofMillis(300));
+
+		final Instant resolvedAt = clock.now.plusMillis(1000);
+		final Boolean resolved = wait.until(input -> !clock.now.isBefore(resolvedAt));
+		assertThat(resolved).isTrue();
+
+		assertThat(sleeps).startsWith(25L, 50L, 100L, 200L, 300L, 300L);
+		assertThat(wait.getPolls()).isEqualTo(sleeps.size() + 1);
+		assertThat(wait.getElapsedMillis()).isLessThan(1300);
+	}
+
+	@Test
+	public void fixedPollingDoesNotBackOff() {
+		final AdaptiveWait<String> wait = new AdaptiveWait<>("input", clock, sleeper).withTimeout(Duration.ofSeconds(10))
+				.pollingFixedEvery(Duration.ofSeconds(1));
+
+		final Instant resolvedAt = clock.now.plusMillis(2500);
+		wait.until(input -> !clock.now.isBefore(resolvedAt));
+
+		assertThat(sleeps).containsExactly(1000L, 1000L, 1000L);
+	}
+
+	@Test
+	public void pollingIntervalIsNeverZero() {
+		final AdaptiveWait<String> wait = new AdaptiveWait<>("input", clock, sleeper).withTimeout(Duration.ofMillis(50))
+				.pollingEvery(Duration.ZERO);
+
+		assertThatThrownBy(() -> wait.until(input -> false)).isInstanceOf(TimeoutException.class);
+		assertThat(sleeps).containsExactly(10L, 10L, 10L, 10L, 10L);
+	}
+
+	@Test
+	public void lastIgnoredExceptionIsTheCauseOfTheTimeout() {
+		final AdaptiveWait<String> wait = new AdaptiveWait<>("input", clock, sleeper).withTimeout(Duration.ofSeconds(2))
+				.pollingEvery(Duration.ofMillis(500)).ignoring(NoSuchElementException.class).withMessage("element");
+
+		assertThatThrownBy(() -> wait.until(input -> {
+			throw new NoSuchElementException("not yet");
+		})).isInstanceOf(TimeoutException.class).hasMessageContaining("element")
+				.hasCauseInstanceOf(NoSuchElementException.class);
+		// the last sleep is cut to the deadline
+		assertThat(sleeps.stream().mapToLong(Long::longValue).sum()).isEqualTo(2000);
+	}
+
+	@Test
+	public void messageIsBuiltOnlyOnTimeout() {
+		final List<String> messages = new ArrayList<>();
+		final AdaptiveWait<String> wait = new AdaptiveWait<>("input", clock, sleeper).withTimeout(Duration.ofSeconds(1))
+				.withMessage(() -> {
+					messages.add("state of the page");
+					return "state of the page";
+				});
+
+		final Boolean resolved = wait.until(input -> true);
+		assertThat(resolved).isTrue();
+		assertThat(messages).isEmpty();
+
+		assertThatThrownBy(() -> wait.until(input -> false)).isInstanceOf(TimeoutException.class)
+				.hasMessageContaining("state of the page");
+		assertThat(messages).hasSize(1);
+	}
+
+	@Test
+	public void exceptionsNotIgnoredAreThrown() {
+		final AdaptiveWait<String> wait = new AdaptiveWait<>("input", clock, sleeper).withTimeout(Duration.ofSeconds(2));
+
+		assertThatThrownBy(() -> wait.until(input -> {
+			throw new IllegalStateException("unexpected");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(sleeps).isEmpty();
+	}
+
+	private static final class FakeClock extends Clock {
+		private Instant now = Instant.parse("2020-01-01T00:00:00Z");
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(final ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
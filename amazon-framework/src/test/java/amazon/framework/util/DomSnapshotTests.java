@@ -0,0 +1,42 @@
+package amazon.framework.util;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Queries of a {@link DomSnapshot} parsed from HTML, the same locators as in the browser.
+ */
+public class DomSnapshotTests {
+
+	private static final String HTML = "<html xmlns=\"http://www.w3.org/1999/xhtml\"><body>"
+			+ "<div class=\"s-main-slot s-result-list s-search-results\">"
+			+ "<div class=\"s-result-item s-asin\" data-asin=\"1\"><span title='say \"hi\"'>Apple  pie</span></div>"
+			+ "<div class=\"s-result-item s-asin\" data-asin=\"2\"><span>Apple\n tart</span></div>"
+			+ "<div class=\"s-result-item\"><span class=\"item_name\">Signed in as Dy</span></div>"
+			+ "</div><p>An error occurred</p></body></html>";
+
+	private final DomSnapshot snapshot = DomSnapshot.parse(HTML, "https://shop/s?k=apple");
+
+	@Test
+	public void locatorsOfAllKinds() {
+		final By results = By.xpath(
+				"//div[contains(@class,'s-main-slot s-result-list s-search-results')]/div[contains(@class,'s-asin')]");
+
+		assertThat(snapshot.count(results)).isEqualTo(2);
+		assertThat(snapshot.attributes(results, "data-asin")).containsExactly("1", "2");
+		assertThat(snapshot.texts(By.xpath("//span[@title='say \"hi\"']"))).containsExactly("Apple pie");
+		assertThat(snapshot.exists(By.className("item_name"))).isTrue();
+	}
+
+	@Test
+	public void xpathWithTextPredicates() {
+		assertThat(snapshot.texts(By.xpath("//div[contains(@class,'s-asin')]//span[contains(., 'Apple')]")))
+				.containsExactly("Apple pie", "Apple tart");
+		assertThat(snapshot.exists(By.xpath("//body//*[contains(text(),'error')]"))).isTrue();
+		assertThat(snapshot.count(
+				By.xpath("//span[contains(@class,'item_name') and contains(., " + XpathTemplate.literal("Dy") + ")]")))
+				.isEqualTo(1);
+	}
+}
@@ -0,0 +1,118 @@
+package amazon.framework.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.os.CommandLine;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverCommandExecutor;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Quits of the {@link DriverReaper} on fake drivers, some of them stuck in their quit.
+ */
+public class DriverReaperTests {
+
+	private final DriverReaper reaper = new DriverReaper(1, 1);
+	private final List<String> quit = new CopyOnWriteArrayList<>();
+	private final List<String> interrupted = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void stuckQuitIsInterruptedAtItsDeadline() throws Exception {
+		final long start = System.nanoTime();
+		final Future<?> stuck = reaper.reap("stuck", driver("stuck", 60_000));
+		// on the same thread, once the stuck quit is given up
+		final Future<?> next = reaper.reap("next", driver("next", 0));
+
+		stuck.get(5, TimeUnit.SECONDS);
+		next.get(5, TimeUnit.SECONDS);
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isBetween(1_000L, 5_000L);
+		assertThat(interrupted).containsExactly("stuck");
+		assertThat(quit).containsExactly("next");
+	}
+
+	@Test
+	public void shutdownWaitsForAllTheQuits() {
+		reaper.reap("pending", driver("pending", 200));
+		final List<DriverSession> sessions = Arrays.asList(new DriverSession(driver("first", 200), "first", null),
+				new DriverSession(driver("second", 200), "second", null),
+				new DriverSession(driver("stuck", 60_000), "stuck", null));
+
+		final long start = System.nanoTime();
+		reaper.reapAllAndWait(sessions);
+
+		// the stuck quit is given up at its deadline
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000L);
+		assertThat(quit).containsExactlyInAnyOrder("pending", "first", "second");
+		assertThat(interrupted).containsExactly("stuck");
+
+		// nobody waits for the next browser anymore, quit in the calling thread
+		assertThat(reaper.reap("late", driver("late", 0))).isDone();
+		assertThat(quit).contains("late");
+	}
+
+	@Test
+	public void localDriverProcessIsKilled() throws IOException {
+		// the fake driver process is a sleep
+		assumeFalse(SystemUtils.IS_OS_WINDOWS);
+		final DriverService service = new DriverService(new File("chromedriver"), 0, ImmutableList.of(),
+				ImmutableMap.of()) {
+		};
+		final CommandLine process = new CommandLine("sleep", "60");
+		process.executeAsync();
+		writeField(service, "process", process);
+		final WebDriver driver = new LocalDriver(new DriverCommandExecutor(service));
+
+		assertThat(DriverReaper.getDriverService(driver)).isSameAs(service);
+		assertThat(process.isRunning()).isTrue();
+		DriverReaper.killDriverProcess(driver);
+		assertThat(process.isRunning()).isFalse();
+
+		// no local process
+		DriverReaper.killDriverProcess(driver("remote", 0));
+	}
+
+	private WebDriver driver(final String name, final long quitMillis) {
+		return new FakeDriver(name).answer("quit", args -> {
+			try {
+				Thread.sleep(quitMillis);
+				quit.add(name);
+			} catch (InterruptedException e) {
+				interrupted.add(name);
+			}
+			return null;
+		}).get();
+	}
+
+	private static void writeField(final Object target, final String name, final Object value) {
+		try {
+			final Field field = DriverService.class.getDeclaredField(name);
+			field.setAccessible(true);
+			field.set(target, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class LocalDriver extends RemoteWebDriver {
+		LocalDriver(final CommandExecutor executor) {
+			setCommandExecutor(executor);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package amazon.framework.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Registry of the live sessions with threads inheriting the session of their parent.
+ */
+public class DriverSessionHolderTests {
+
+	@After
+	public void tearDown() {
+		DriverSessionHolder.reset();
+	}
+
+	@Test
+	public void childThreadNeverUnregistersTheSessionOfItsParent() throws InterruptedException {
+		final DriverSession parent = new DriverSession(null, "parent", null);
+		DriverSessionHolder.setDriverSession(parent);
+
+		final DriverSession[] inherited = new DriverSession[1];
+		final Thread child = new Thread(() -> {
+			inherited[0] = DriverSessionHolder.getDriverSession();
+			DriverSessionHolder.setDriverSession(new DriverSession(null, "child", null));
+			DriverSessionHolder.reset();
+			DriverSessionHolder.setDriverSession(inherited[0]);
+			DriverSessionHolder.reset();
+		});
+		child.start();
+		child.join();
+
+		assertThat(inherited[0]).isSameAs(parent);
+		assertThat(DriverSessionHolder.getDriverSessions()).containsExactly(parent);
+
+		DriverSessionHolder.reset();
+		assertThat(DriverSessionHolder.getDriverSessions()).isEmpty();
+	}
+}
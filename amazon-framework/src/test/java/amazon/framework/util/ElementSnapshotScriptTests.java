@@ -0,0 +1,80 @@
+package amazon.framework.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reading of the elements by element-snapshot.js, run by the JavaScript engine of HtmlUnit, compared with the reads of
+ * the driver.
+ */
+public class ElementSnapshotScriptTests {
+
+	private static final By FIELDS = By.cssSelector("#search input");
+
+	@Rule
+	public HtmlUnitPage page = new HtmlUnitPage("element-snapshot-tests");
+
+	private WebDriver driver;
+
+	@Before
+	public void setUp() {
+		driver = page.load("<html><body><form id='search'>"
+				+ "<input id='query' class='field wide' value='initial'>"
+				+ "<input id='prime' type='checkbox' checked>"
+				+ "<input id='gift' type='checkbox' disabled>"
+				+ "<input id='token' type='hidden' value='secret'></form>"
+				+ "<ul id='results'><li>  Red shirt  </li><li style='display:none'>Hidden shirt</li>"
+				+ "<li style='visibility:hidden'>Ghost shirt</li></ul>"
+				+ "<script>document.getElementById('query').value = 'typed';</script></body></html>");
+	}
+
+	@Test
+	public void visibilityAndTextsAreReadAsByTheDriver() {
+		final List<ElementSnapshot> results = ElementSnapshot.of(By.xpath("//ul[@id='results']/li"));
+
+		assertThat(results).extracting(ElementSnapshot::isDisplayed).containsExactly(true, false, false);
+		assertThat(results).extracting(ElementSnapshot::getText).containsExactly("Red shirt", "", "");
+		assertThat(ElementSnapshot.texts(By.cssSelector("#results li"))).isEqualTo(driver
+				.findElements(By.cssSelector("#results li")).stream().map(WebElement::getText).collect(Collectors.toList()));
+		assertThat(results.get(0).hasSize()).isTrue();
+	}
+
+	@Test
+	public void attributesAreReadAsByTheDriver() {
+		final List<ElementSnapshot> fields = ElementSnapshot.of(FIELDS, "value", "checked", "class", "disabled");
+
+		// the properties: the value typed, the state of the check box
+		assertThat(fields.get(0).getAttribute("value")).isEqualTo("typed");
+		assertThat(fields.get(1).getAttribute("checked")).isEqualTo("true");
+		assertThat(fields.get(2).getAttribute("checked")).isNull();
+		assertThat(fields.get(2).isEnabled()).isFalse();
+		assertThat(fields.get(2).getAttribute("disabled")).isEqualTo("true");
+		// no property of that name, the attribute
+		assertThat(fields.get(0).getAttribute("class")).isEqualTo("field wide");
+
+		for (int i = 0; i < fields.size(); i++) {
+			for (String name : new String[] { "value", "checked", "class", "disabled" }) {
+				assertThat(fields.get(i).getAttribute(name)).as(name + " of field " + i)
+						.isEqualTo(driver.findElements(FIELDS).get(i).getAttribute(name));
+			}
+		}
+	}
+
+	@Test
+	public void allAttributesAreTheHtmlAttributes() {
+		final ElementSnapshot query = ElementSnapshot.of(By.id("query"), ElementSnapshot.ALL_ATTRIBUTES).get(0);
+
+		// HtmlUnit keeps the value attribute in sync with the property, unlike the browsers
+		assertThat(query.getAttributes()).containsEntry("id", "query").containsEntry("class", "field wide")
+				.containsKey("value").hasSize(3);
+	}
+}
@@ -0,0 +1,81 @@
+package amazon.framework.util;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reading of {@link ElementSnapshot}s against a fake driver which records its calls, see
+ * {@link ElementSnapshotScriptTests} for the reads in the page.
+ */
+public class ElementSnapshotTests {
+
+	@Rule
+	public FakeDriver fake = new FakeDriver("snapshot-tests");
+
+	private Object scriptResult;
+	private List<WebElement> foundElements = Collections.emptyList();
+
+	@Before
+	public void setUp() {
+		fake.answerScripts((script, args) -> scriptResult).answer("findElements", args -> foundElements);
+	}
+
+	@Test
+	public void allMatchesAreReadInOneScript() {
+		final Map<String, Object> hidden = values("", false);
+		hidden.put("width", 0L);
+		hidden.put("attributes", Collections.singletonMap("href", null));
+		scriptResult = Arrays.asList(values("Price: Low to High", true), hidden);
+
+		final List<ElementSnapshot> snapshots = ElementSnapshot.of(By.id("sort"), "href");
+
+		assertThat(fake.getCalls()).containsExactly("executeScript");
+		assertThat(fake.getScriptArguments().get(0)).containsExactly("css", "[id=\"sort\"]", Collections.emptyList(),
+				Collections.singletonList("href"));
+		assertThat(snapshots).hasSize(2);
+		assertThat(snapshots.get(0).getText()).isEqualTo("Price: Low to High");
+		assertThat(snapshots.get(0).isDisplayed()).isTrue();
+		assertThat(snapshots.get(0).hasSize()).isTrue();
+		assertThat(snapshots.get(0).getAttribute("href")).isEqualTo("/s?sort=price");
+		assertThat(snapshots.get(1).isDisplayed()).isFalse();
+		assertThat(snapshots.get(1).hasSize()).isFalse();
+		assertThat(snapshots.get(1).getAttributes()).containsEntry("href", null);
+	}
+
+	@Test
+	public void locatorsWithoutSelectorAreFoundThroughTheDriver() {
+		foundElements = Collections.singletonList(FakeDriver.element("Next"));
+		scriptResult = Collections.singletonList(values("Next", true));
+
+		assertThat(ElementSnapshot.texts(By.linkText("Next"))).containsExactly("Next");
+		assertThat(fake.getCalls()).containsExactly("findElements", "executeScript");
+		assertThat(fake.getScriptArguments().get(0)).containsExactly("", "", foundElements, Collections.emptyList());
+
+		// nothing to read
+		assertThat(ElementSnapshot.texts(Collections.emptyList())).isEmpty();
+		assertThat(fake.getCalls()).hasSize(2);
+	}
+
+	private static Map<String, Object> values(final String text, final boolean displayed) {
+		final Map<String, Object> values = new HashMap<>();
+		values.put("text", text);
+		values.put("displayed", displayed);
+		values.put("enabled", true);
+		values.put("width", 120.5);
+		values.put("height", 20L);
+		values.put("attributes", ImmutableMap.of("href", "/s?sort=price"));
+		return values;
+	}
+}
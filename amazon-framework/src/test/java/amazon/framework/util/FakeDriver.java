@@ -0,0 +1,142 @@
+package amazon.framework.util;
+
+import org.junit.rules.ExternalResource;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Fake {@link WebDriver} and {@link JavascriptExecutor} of the tests, answering what the test tells it and recording
+ * its calls. As a rule, it is the driver of the current thread during the test. <br>
+ * Ex: driver.answer("getCurrentUrl", args -&gt; "https://shop/cart")
+ */
+public class FakeDriver extends ExternalResource {
+
+	private final String name;
+	private final WebDriver driver;
+	private final Map<String, Function<Object[], Object>> answers = new ConcurrentHashMap<>();
+	private final List<String> calls = new CopyOnWriteArrayList<>();
+	private final List<Object[]> scriptArguments = new CopyOnWriteArrayList<>();
+	private BiFunction<String, Object[], Object> scriptAnswer = (script, arguments) -> null;
+
+	public FakeDriver() {
+		this("fake-driver");
+	}
+
+	public FakeDriver(final String name) {
+		this.name = name;
+		this.driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { WebDriver.class, JavascriptExecutor.class }, (proxy, method, args) -> {
+					final Object[] arguments = args != null ? args : new Object[0];
+					switch (method.getName()) {
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == arguments[0];
+					case "toString":
+						return name;
+					default:
+						break;
+					}
+					calls.add(method.getName());
+					if (answers.containsKey(method.getName())) {
+						return answers.get(method.getName()).apply(arguments);
+					}
+					switch (method.getName()) {
+					case "executeScript":
+					case "executeAsyncScript":
+						scriptArguments.add((Object[]) arguments[1]);
+						return scriptAnswer.apply(String.valueOf(arguments[0]), (Object[]) arguments[1]);
+					case "findElements":
+						return Collections.emptyList();
+					default:
+						return null;
+					}
+				});
+	}
+
+	/**
+	 * Answer the calls of the method, given the arguments of each call. Overrides the answer to the scripts.
+	 */
+	public FakeDriver answer(final String method, final Function<Object[], Object> answer) {
+		answers.put(method, answer);
+		return this;
+	}
+
+	/**
+	 * Answer the synchronous and asynchronous scripts, given the script and its arguments.
+	 */
+	public FakeDriver answerScripts(final BiFunction<String, Object[], Object> answer) {
+		this.scriptAnswer = answer;
+		return this;
+	}
+
+	public WebDriver get() {
+		return driver;
+	}
+
+	/**
+	 * @return the names of the methods called, in order
+	 */
+	public List<String> getCalls() {
+		return new ArrayList<>(calls);
+	}
+
+	/**
+	 * @return the arguments of the scripts run, in order
+	 */
+	public List<Object[]> getScriptArguments() {
+		return new ArrayList<>(scriptArguments);
+	}
+
+	public void clearCalls() {
+		calls.clear();
+		scriptArguments.clear();
+	}
+
+	@Override
+	protected void before() {
+		DriverSessionHolder.setDriverSession(new DriverSession(driver, name, null));
+	}
+
+	@Override
+	protected void after() {
+		DriverSessionHolder.reset();
+	}
+
+	/**
+	 * @return an element answering null to all the calls
+	 */
+	public static WebElement element(final String name) {
+		return element(name, (method, args) -> null);
+	}
+
+	/**
+	 * @param answer the answer given the name of the method called and its arguments
+	 */
+	public static WebElement element(final String name, final BiFunction<String, Object[], Object> answer) {
+		return (WebElement) Proxy.newProxyInstance(FakeDriver.class.getClassLoader(),
+				new Class<?>[] { WebElement.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					case "toString":
+						return name;
+					default:
+						return answer.apply(method.getName(), args != null ? args : new Object[0]);
+					}
+				});
+	}
+}
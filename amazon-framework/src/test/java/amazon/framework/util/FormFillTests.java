@@ -0,0 +1,140 @@
+package amazon.framework.util;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filling of the forms by {@link FormFill} against a fake driver: the statuses returned by form-fill.js decide which
+ * fields are typed with keystrokes.
+ */
+public class FormFillTests {
+
+	private static final By PASSWORD = By.id("password");
+	private static final By EMAIL = By.id("email");
+	private static final By ZIP = By.name("zip");
+	// no CSS nor XPath equivalent, found through the driver
+	private static final By COUNTRY = new By() {
+		@Override
+		public List<WebElement> findElements(final SearchContext context) {
+			return context.findElements(this);
+		}
+
+		@Override
+		public String toString() {
+			return "country field";
+		}
+	};
+
+	private final Map<String, WebElement> fieldsBySelector = new HashMap<>();
+	private final Map<By, WebElement> fieldsByLocator = new HashMap<>();
+	private final List<String> keystrokes = new ArrayList<>();
+	private final List<Object[]> formFillCalls = new ArrayList<>();
+	private final List<List<String>> formFillResults = new ArrayList<>();
+
+	@Rule
+	public FakeDriver fake = new FakeDriver("form-fill-tests");
+
+	@Before
+	public void setUp() {
+		for (By locator : Arrays.asList(PASSWORD, EMAIL, ZIP, COUNTRY)) {
+			final WebElement field = field(locator.toString());
+			fieldsByLocator.put(locator, field);
+			final String[] selector = DomWait.toSelector(locator);
+			if (selector != null) {
+				fieldsBySelector.put(selector[1], field);
+			}
+		}
+		fake.answerScripts(this::executeScript)
+				// dom-wait.js: the fields are present
+				.answer("executeAsyncScript", args -> true)
+				.answer("findElements", args -> fieldsByLocator.containsKey(args[0])
+						? Collections.singletonList(fieldsByLocator.get(args[0])) : Collections.emptyList());
+	}
+
+	@Test
+	public void onlyTheFieldsRefusingTheScriptAreTypedInTheOrderOfTheForm() {
+		// fields by script: password, email, zip
+		formFillResults.add(Arrays.asList("rejected", "ok", "ok"));
+		formFillResults.add(Arrays.asList("rejected", "ok", "mismatch"));
+
+		final List<By> typed = FormFill.fill(
+				ImmutableMap.of(PASSWORD, "secret", COUNTRY, "France", EMAIL, "me@shop.com", ZIP, "75001"));
+
+		assertThat(typed).containsExactly(PASSWORD, COUNTRY, ZIP);
+		assertThat(keystrokes).containsExactly("By.id: password=secret", "country field=France",
+				"By.name: zip=75001");
+
+		assertThat(formFillCalls).hasSize(2);
+		assertThat(formFillCalls.get(0)[1]).isEqualTo(true);
+		assertThat(formFillCalls.get(1)[1]).isEqualTo(false);
+		final List<?> fields = (List<?>) formFillCalls.get(0)[0];
+		assertThat(fields).hasSize(3);
+		assertThat(fields.get(1))
+				.isEqualTo(ImmutableMap.of("kind", "css", "selector", "[id=\"email\"]", "value", "me@shop.com"));
+	}
+
+	@Test
+	public void everyFieldIsTypedWhenTheScriptFails() {
+		final List<By> typed = FormFill.fill(ImmutableMap.of(EMAIL, "me@shop.com", ZIP, "75001"));
+
+		assertThat(typed).containsExactly(EMAIL, ZIP);
+		assertThat(keystrokes).containsExactly("By.id: email=me@shop.com", "By.name: zip=75001");
+	}
+
+	private Object executeScript(final String script, final Object[] args) {
+		if (script.contains("see FormFill")) {
+			formFillCalls.add(args);
+			if (formFillResults.isEmpty()) {
+				throw new org.openqa.selenium.JavascriptException("form-fill.js failed");
+			}
+			return formFillResults.remove(0);
+		}
+		if (script.contains("see PageCondition")) {
+			// all the fields are present
+			return Collections.emptyList();
+		}
+		if (script.contains("see LocatorCache") || script.contains("Generation of the DOM")) {
+			final Map<String, Object> result = new HashMap<>();
+			result.put("generation", "page:" + keystrokes.size());
+			final WebElement field = fieldsBySelector.get(String.valueOf(args[2]));
+			result.put("elements", field != null ? Collections.singletonList(field) : Collections.emptyList());
+			return result;
+		}
+		return null;
+	}
+
+	private WebElement field(final String name) {
+		final StringBuilder value = new StringBuilder();
+		return FakeDriver.element(name, (method, args) -> {
+			switch (method) {
+			case "clear":
+				value.setLength(0);
+				return null;
+			case "sendKeys":
+				for (CharSequence keys : (CharSequence[]) args[0]) {
+					value.append(keys);
+				}
+				keystrokes.add(name + "=" + value);
+				return null;
+			case "getAttribute":
+				return "value".equals(args[0]) ? value.toString() : null;
+			default:
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,61 @@
+package amazon.framework.util;
+
+import org.junit.rules.ExternalResource;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Page of the tests of the page scripts, run by the JavaScript engine of HtmlUnit. As a rule, its driver is the
+ * driver of the current thread during the test. <br>
+ * HtmlUnit has no data: URLs, the page is loaded from a temporary file.
+ */
+public class HtmlUnitPage extends ExternalResource {
+
+	private final String name;
+	private HtmlUnitDriver driver;
+	private Path file;
+
+	public HtmlUnitPage(final String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Load the page, the scripts of the page run.
+	 */
+	public HtmlUnitDriver load(final String html) {
+		try {
+			Files.write(file, html.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		driver.get(file.toUri().toString());
+		return driver;
+	}
+
+	public HtmlUnitDriver getDriver() {
+		return driver;
+	}
+
+	@Override
+	protected void before() throws IOException {
+		file = Files.createTempFile(name, ".html");
+		driver = new HtmlUnitDriver(true);
+		DriverSessionHolder.setDriverSession(new DriverSession(driver, name, null));
+	}
+
+	@Override
+	protected void after() {
+		DriverSessionHolder.reset();
+		driver.quit();
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package amazon.framework.util;
+
+import amazon.framework.util.LabelMatch.Mode;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.WebDriver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Matching of the labels by label-match.js, run by the JavaScript engine of HtmlUnit.
+ */
+public class LabelMatchTests {
+
+	private static final By OPTIONS = By.cssSelector("#sort li");
+
+	@Rule
+	public HtmlUnitPage page = new HtmlUnitPage("label-match-tests");
+
+	private WebDriver driver;
+
+	@Before
+	public void setUp() {
+		driver = page.load("<html><body><ul id='sort'><li>Featured</li><li>Price: Low to High</li>"
+				+ "<li style='display:none'>Hidden</li><li>Newest Arrivals</li></ul></body></html>");
+	}
+
+	@Test
+	public void labelsAreMatchedPerMode() {
+		assertThat(LabelMatch.of(OPTIONS, "Price: Low to High", Mode.EXACT).getElement().getText())
+				.isEqualTo("Price: Low to High");
+		assertThat(LabelMatch.of(OPTIONS, "Price", Mode.EXACT).isFound()).isFalse();
+		assertThat(LabelMatch.of(OPTIONS, "Low to", Mode.CONTAINS).getElement().getText())
+				.isEqualTo("Price: Low to High");
+		assertThat(LabelMatch.of(OPTIONS, "featured", Mode.EXACT).isFound()).isFalse();
+		assertThat(LabelMatch.of(OPTIONS, "featured", Mode.EXACT_IGNORE_CASE).getElement().getText())
+				.isEqualTo("Featured");
+		assertThat(LabelMatch.of(OPTIONS, "LOW TO", Mode.CONTAINS_IGNORE_CASE).isFound()).isTrue();
+		// never the hidden elements
+		assertThat(LabelMatch.of(OPTIONS, "Hidden", Mode.CONTAINS).isFound()).isFalse();
+		// the given elements, as with the locator
+		assertThat(LabelMatch.of(driver.findElements(OPTIONS), "Featured", Mode.EXACT).isFound()).isTrue();
+	}
+
+	@Test
+	public void notFoundListsTheLabelsOfTheCandidates() {
+		final LabelMatch match = LabelMatch.of(OPTIONS, "Avg. Customer Review", Mode.CONTAINS);
+
+		assertThat(match.getLabels()).containsExactly("Featured", "Price: Low to High", "", "Newest Arrivals");
+		assertThatThrownBy(match::getElementStrong).isInstanceOf(NotFoundException.class).hasMessageStartingWith(
+				"No web element found with text='Avg. Customer Review' (CONTAINS) in the list of following web "
+						+ "elements : 'Featured', 'Price: Low to High', '', 'Newest Arrivals'");
+	}
+}
@@ -0,0 +1,55 @@
+package amazon.framework.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hits and invalidation of {@link LocatorCache} against a fake page whose DOM generation is set by the test.
+ */
+public class LocatorCacheTests {
+
+	@Rule
+	public FakeDriver fake = new FakeDriver("locator-cache-tests");
+
+	private String generation = "doc:0";
+	private final WebElement element = FakeDriver.element("a");
+	private final WebDriver driver = fake.answerScripts((script, args) -> {
+		final Map<String, Object> result = new HashMap<>();
+		result.put("generation", generation);
+		// as dom-generation.js: no elements when the caller knows the current generation
+		result.put("elements", generation.equals(args[0]) ? null : Collections.singletonList(element));
+		return result;
+	}).get();
+
+	@Test
+	public void elementsAreFoundAgainOnlyWhenTheDomChanged() {
+		final LocatorCache cache = new LocatorCache();
+		final By locator = By.id("a");
+
+		assertThat(cache.findElements(driver, locator)).containsExactly(element);
+		assertThat(cache.findElements(driver, locator)).containsExactly(element);
+		generation = "doc:1";
+		assertThat(cache.findElements(driver, locator)).containsExactly(element);
+
+		assertThat(cache.getHitRate()).isEqualTo(1.0 / 3);
+	}
+
+	@Test
+	public void locatorsWithoutSelectorGoThroughTheDriver() {
+		final LocatorCache cache = new LocatorCache();
+
+		assertThat(cache.findElements(driver, By.linkText("Next"))).isEmpty();
+
+		assertThat(fake.getCalls()).containsExactly("findElements");
+		assertThat(cache.getHitRate()).isZero();
+	}
+}
@@ -0,0 +1,80 @@
+package amazon.framework.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import static amazon.framework.util.PageCondition.allOf;
+import static amazon.framework.util.PageCondition.anyOf;
+import static amazon.framework.util.PageCondition.attributeContains;
+import static amazon.framework.util.PageCondition.noneOf;
+import static amazon.framework.util.PageCondition.present;
+import static amazon.framework.util.PageCondition.textContains;
+import static amazon.framework.util.PageCondition.titleContains;
+import static amazon.framework.util.PageCondition.urlContains;
+import static amazon.framework.util.PageCondition.visible;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Evaluation of the {@link PageCondition}s by page-condition.js, run by the JavaScript engine of HtmlUnit.
+ */
+public class PageConditionScriptTests {
+
+	private static final By RECEIPT = By.id("receipt");
+	private static final By ITEMS = By.cssSelector(".items li");
+	private static final By ERROR = By.xpath("//span[@class='error']");
+
+	@Rule
+	public HtmlUnitPage page = new HtmlUnitPage("page-condition-tests");
+
+	private WebDriver driver;
+
+	@Before
+	public void setUp() {
+		driver = page.load("<html><head><title>Cart - Shop</title></head><body>"
+				+ "<div id='receipt' style='display:none'>Order 42</div>"
+				+ "<ul class='items'><li data-sku='B01-red'>Red shirt</li><li>Blue shirt</li></ul>"
+				+ "<span class='error' style='visibility:hidden'>Out of stock</span></body></html>");
+	}
+
+	@Test
+	public void leavesAreEvaluatedInThePage() {
+		assertThat(present(RECEIPT).apply(driver)).isNotNull();
+		assertThat(present(By.id("missing")).apply(driver)).isNull();
+		assertThat(textContains(ITEMS, "Blue").apply(driver)).isNotNull();
+		assertThat(attributeContains(ITEMS, "data-sku", "red").apply(driver)).isNotNull();
+		assertThat(attributeContains(ITEMS, "data-sku", "blue").apply(driver)).isNull();
+		assertThat(titleContains("Cart").apply(driver)).isNotNull();
+		assertThat(urlContains("page-condition-tests").apply(driver)).isNotNull();
+	}
+
+	@Test
+	public void hiddenElementsAreNeitherVisibleNorReadable() {
+		assertThat(visible(ITEMS).apply(driver)).isNotNull();
+		// display: none
+		assertThat(visible(RECEIPT).apply(driver)).isNull();
+		assertThat(textContains(RECEIPT, "Order").apply(driver)).isNull();
+		// visibility: hidden, located by XPath
+		assertThat(present(ERROR).apply(driver)).isNotNull();
+		assertThat(visible(ERROR).apply(driver)).isNull();
+	}
+
+	@Test
+	public void firstMatchingBranchOfAnyIsReturned() {
+		final PageCondition confirmation = allOf(present(RECEIPT), visible(RECEIPT));
+		final PageCondition cart = allOf(visible(ITEMS), titleContains("Cart"));
+		final PageCondition condition = anyOf(visible(ERROR), confirmation, cart, present(ITEMS));
+
+		assertThat(condition.apply(driver)).hasToString(cart.toString());
+		assertThat(anyOf(visible(ERROR), confirmation).apply(driver)).isNull();
+	}
+
+	@Test
+	public void noneHoldsOnlyWithoutAnyMatch() {
+		assertThat(noneOf(visible(ERROR), visible(RECEIPT)).apply(driver)).isNotNull();
+		assertThat(noneOf(visible(ERROR), visible(ITEMS)).apply(driver)).isNull();
+		assertThat(allOf(present(ITEMS), noneOf(visible(ERROR))).apply(driver)).isNotNull();
+	}
+}
@@ -0,0 +1,75 @@
+package amazon.framework.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static amazon.framework.util.PageCondition.allOf;
+import static amazon.framework.util.PageCondition.anyOf;
+import static amazon.framework.util.PageCondition.anyPresent;
+import static amazon.framework.util.PageCondition.present;
+import static amazon.framework.util.PageCondition.urlContains;
+import static amazon.framework.util.PageCondition.visible;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Evaluation of {@link PageCondition} against a fake driver which records its calls, see
+ * {@link PageConditionScriptTests} for the evaluation in the page.
+ */
+public class PageConditionTests {
+
+	@Rule
+	public FakeDriver fake = new FakeDriver("page-condition-tests")
+			.answer("getCurrentUrl", args -> "https://shop/confirmation");
+
+	private Object scriptResult;
+	private final WebDriver driver = fake.answerScripts((script, args) -> scriptResult).get();
+
+	@Test
+	public void oneScriptPerPollWhateverTheNumberOfLocators() {
+		final By third = By.id("c");
+		final PageCondition condition = anyPresent(By.id("a"), By.cssSelector(".b"), third, By.xpath("//d"));
+
+		scriptResult = null;
+		assertThat(condition.apply(driver)).isNull();
+		scriptResult = Arrays.asList(2L);
+		assertThat(condition.apply(driver)).hasToString(present(third).toString());
+
+		assertThat(fake.getCalls()).containsExactly("executeScript", "executeScript");
+	}
+
+	@Test
+	public void matchedBranchIsFollowedThroughNestedConditions() {
+		final PageCondition confirmation = allOf(urlContains("confirmation"), visible(By.id("receipt")));
+		final PageCondition condition = anyOf(visible(By.className("error")), confirmation);
+
+		scriptResult = Arrays.asList(1L);
+		assertThat(condition.apply(driver)).isSameAs(((PageCondition.Composite) condition).follow(Arrays.asList(1L)))
+				.hasToString(confirmation.toString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scriptArgumentDescribesTheTree() {
+		final Map<String, Object> argument = anyOf(present(By.id("a")), urlContains("shop")).toScriptArgument();
+
+		assertThat(argument).containsEntry("type", "ANY");
+		final List<?> children = (List<?>) argument.get("children");
+		assertThat(children).hasSize(2);
+		assertThat((Map<String, Object>) children.get(0)).containsEntry("type", "PRESENT").containsEntry("kind", "css")
+				.containsEntry("selector", "[id=\"a\"]").doesNotContainKey("value");
+	}
+
+	@Test
+	public void locatorsWithoutSelectorAreEvaluatedThroughTheDriver() {
+		final PageCondition condition = anyOf(present(By.linkText("Next")), urlContains("confirmation"));
+
+		assertThat(condition.apply(driver)).hasToString("url contains 'confirmation'");
+		assertThat(fake.getCalls()).containsExactly("findElements", "getCurrentUrl");
+	}
+}
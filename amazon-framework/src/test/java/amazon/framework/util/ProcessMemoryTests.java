@@ -0,0 +1,68 @@
+package amazon.framework.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Driver processes and their memory read by {@link ProcessMemory} from a fixture laid out as /proc.
+ */
+public class ProcessMemoryTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path proc;
+
+	@Before
+	public void setUp() throws IOException {
+		proc = folder.getRoot().toPath();
+		process(100, 1, "chromedriver\0--port=9515\0--verbose\0", "chromedriver", 10_000);
+		process(200, 100, "/opt/google/chrome/chrome\0--headless\0", "chrome", 300_000);
+		// parentheses and spaces in the command name
+		process(300, 200, "/opt/google/chrome/chrome\0--type=renderer\0", "chrome (renderer) x", 500_000);
+		// zombie, without memory
+		process(301, 200, "", "chrome", -1);
+		process(400, 1, "geckodriver\0--port=4444\0", "geckodriver", 20_000);
+		// not a process
+		Files.createDirectories(proc.resolve("self"));
+	}
+
+	@Test
+	public void driverProcessIsFoundByItsPort() {
+		assertThat(ProcessMemory.findDriverProcess(proc, 9515)).isEqualTo(100);
+		assertThat(ProcessMemory.findDriverProcess(proc, 4444)).isEqualTo(400);
+		// --port=95 is not --port=9515
+		assertThat(ProcessMemory.findDriverProcess(proc, 95)).isEqualTo(-1);
+	}
+
+	@Test
+	public void memoryOfTheDriverIncludesItsBrowser() {
+		assertThat(ProcessMemory.getTreeRssKb(proc, 100)).isEqualTo(810_000);
+		assertThat(ProcessMemory.getTreeRssKb(proc, 200)).isEqualTo(800_000);
+		assertThat(ProcessMemory.getTreeRssKb(proc, 400)).isEqualTo(20_000);
+		// ended meanwhile
+		assertThat(ProcessMemory.getTreeRssKb(proc, 999)).isZero();
+	}
+
+	private void process(final int pid, final int parent, final String commandLine, final String name,
+			final long rssKb) throws IOException {
+		final Path process = Files.createDirectories(proc.resolve(String.valueOf(pid)));
+		write(process.resolve("cmdline"), commandLine);
+		write(process.resolve("stat"), String.format("%s (%s) S %s %s 0 0 -1 4194560", pid, name, parent, pid));
+		write(process.resolve("status"), String.format("Name:\t%s\nState:\tS (sleeping)\n%sThreads:\t1\n", name,
+				rssKb >= 0 ? "VmRSS:\t   " + rssKb + " kB\n" : ""));
+	}
+
+	private static void write(final Path file, final String content) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+	}
+}
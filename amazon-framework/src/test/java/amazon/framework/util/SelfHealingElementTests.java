@@ -0,0 +1,93 @@
+package amazon.framework.util;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Relocation of {@link SelfHealingElement} against fake elements which go stale when the test says so.
+ */
+public class SelfHealingElementTests {
+
+	@Rule
+	public final FakeDriver driver = new FakeDriver("self-healing-tests");
+
+	private final List<String> elements = new ArrayList<>();
+	private boolean stale;
+
+	private final ElementLocator locator = new ElementLocator() {
+		@Override
+		public WebElement findElement() {
+			final String name = "element" + elements.size();
+			elements.add(name);
+			stale = false;
+			return FakeDriver.element(name, (method, args) -> {
+				if (stale) {
+					throw new StaleElementReferenceException(name + " is stale");
+				}
+				return name;
+			});
+		}
+
+		@Override
+		public List<WebElement> findElements() {
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	@After
+	public void tearDown() {
+		SelfHealingElement.reset();
+	}
+
+	@Test
+	public void elementIsLocatedOnceWhileItIsNotStale() {
+		final WebElement element = SelfHealingElement.of(locator, "field");
+
+		assertThat(element.getText()).isEqualTo("element0");
+		assertThat(element.getTagName()).isEqualTo("element0");
+
+		assertThat(elements).hasSize(1);
+		assertThat(SelfHealingElement.getRelocations(element)).isZero();
+	}
+
+	@Test
+	public void staleElementIsLocatedAgainAndTheCallRetried() {
+		final WebElement element = SelfHealingElement.of(locator, "field");
+		element.getText();
+
+		stale = true;
+
+		assertThat(element.getText()).isEqualTo("element1");
+		assertThat(SelfHealingElement.getRelocations(element)).isEqualTo(1);
+		assertThat(SelfHealingElement.getRelocationsByLocator()).containsEntry("field", 1L);
+	}
+
+	@Test
+	public void elementAlreadyFoundIsUsedUntilItIsStale() {
+		// as dom-generation.js
+		driver.answerScripts((script, args) -> ImmutableMap.of("generation", "1", "elements",
+				Collections.singletonList(locator.findElement())));
+		final WebElement found = locator.findElement();
+
+		final WebElement element = SelfHealingElement.of(By.id("field"), found);
+		assertThat(element.getText()).isEqualTo("element0");
+		assertThat(driver.getCalls()).isEmpty();
+
+		stale = true;
+		assertThat(element.getText()).isEqualTo("element1");
+		assertThat(driver.getCalls()).containsExactly("executeScript");
+		assertThat(SelfHealingElement.getRelocations(element)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,89 @@
+package amazon.framework.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.remote.DriverCommand;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Timeouts and polling intervals adapted to the round trip times recorded by the {@link SessionLatencyModel} of the
+ * session.
+ */
+public class SessionLatencyModelTests {
+
+	private SessionLatencyModel model;
+
+	@Before
+	public void setUp() {
+		final DriverSession session = new DriverSession(null, "latency-tests", null);
+		DriverSessionHolder.setDriverSession(session);
+		model = session.getLatencyModel();
+	}
+
+	@After
+	public void tearDown() {
+		DriverSessionHolder.reset();
+	}
+
+	@Test
+	public void nominalWaitsUntilCommandsAreTimed() {
+		assertThat(LoadingConstants.adapt(60)).isEqualTo(60);
+		assertThat(LoadingConstants.pollingInterval()).isEqualTo(Duration.ofMillis(500));
+		assertThat(model.getDriftFactor()).isEqualTo(1);
+	}
+
+	@Test
+	public void fastBrowserIsPolledOftenWithNominalTimeouts() {
+		record(30, 20);
+		assertThat(model.isSlow()).isFalse();
+		assertThat(LoadingConstants.adapt(60)).isEqualTo(60);
+		assertThat(LoadingConstants.pollingInterval()).isEqualTo(Duration.ofMillis(60));
+
+		record(10, 20);
+		assertThat(LoadingConstants.pollingInterval()).isEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	public void slowBrowserGetsLongerTimeoutsUpToThreeTimes() {
+		record(250, 20);
+		assertThat(LoadingConstants.adapt(60)).isEqualTo(150);
+		assertThat(LoadingConstants.pollingInterval()).isEqualTo(Duration.ofMillis(500));
+
+		record(1_500, 40);
+		assertThat(model.isSlow()).isTrue();
+		assertThat(LoadingConstants.adapt(60)).isEqualTo(180);
+		assertThat(LoadingConstants.pollingInterval()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(model.getDriftFactor()).isEqualTo(6);
+	}
+
+	@Test
+	public void occasionalSlowCommandsDoNotMakeTheBrowserSlow() {
+		for (int i = 0; i < 10; i++) {
+			record(40, 4);
+			// e.g: a large script
+			model.record(20_000);
+		}
+		assertThat(model.isSlow()).isFalse();
+		assertThat(model.getRoundTripMillis()).isEqualTo(40);
+		assertThat(LoadingConstants.adapt(60)).isEqualTo(60);
+	}
+
+	@Test
+	public void commandsWaitingForThePageAreNotRoundTrips() {
+		assertThat(SessionLatencyModel.isRoundTrip(DriverCommand.FIND_ELEMENTS)).isTrue();
+		assertThat(SessionLatencyModel.isRoundTrip(DriverCommand.EXECUTE_SCRIPT)).isTrue();
+		assertThat(SessionLatencyModel.isRoundTrip(DriverCommand.GET)).isFalse();
+		assertThat(SessionLatencyModel.isRoundTrip(DriverCommand.REFRESH)).isFalse();
+		assertThat(SessionLatencyModel.isRoundTrip(DriverCommand.EXECUTE_ASYNC_SCRIPT)).isFalse();
+	}
+
+	private void record(final long roundTripMillis, final int commands) {
+		for (int i = 0; i < commands; i++) {
+			model.record(roundTripMillis);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package amazon.framework.util;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.NoSuchSessionException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks of the {@link SessionWatchdog} on a fake session, whose commands are timed on a clock set by the test.
+ */
+public class SessionWatchdogTests {
+
+	// checks every 30 s, heartbeat timeout 1 s, hang after 600 s, drift above 3, no memory limit
+	private final SessionWatchdog watchdog = new SessionWatchdog(30, 1, 600, 3, Long.MAX_VALUE);
+	private final AtomicLong nanos = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+	private final SessionLatencyModel latency = new SessionLatencyModel(nanos::get);
+	private final FakeDriver driver = new FakeDriver("watchdog-tests");
+	private final DriverSession session = new DriverSession(driver.get(), "watchdog-tests", null, latency);
+
+	@After
+	public void tearDown() {
+		watchdog.shutdown();
+	}
+
+	@Test
+	public void commandRunningTooLongIsAHang() {
+		latency.commandStarted(nanos.get());
+		elapse(599);
+		assertThat(watchdog.check(session)).isNull();
+
+		elapse(2);
+		assertThat(watchdog.check(session)).isEqualTo("command running for 601 s");
+		// no heartbeat behind a running command
+		assertThat(driver.getCalls()).isEmpty();
+	}
+
+	@Test
+	public void idleSessionMustAnswerTheHeartbeat() {
+		// used since the last check
+		elapse(10);
+		assertThat(watchdog.check(session)).isNull();
+		assertThat(driver.getCalls()).isEmpty();
+
+		elapse(30);
+		driver.answer("getWindowHandle", args -> "window");
+		assertThat(watchdog.check(session)).isNull();
+		assertThat(driver.getCalls()).containsExactly("getWindowHandle");
+
+		driver.answer("getWindowHandle", args -> {
+			throw new NoSuchSessionException("browser gone");
+		});
+		assertThat(watchdog.check(session)).startsWith("heartbeat failed: ")
+				.contains(NoSuchSessionException.class.getName());
+
+		driver.answer("getWindowHandle", args -> sleep(3_000));
+		assertThat(watchdog.check(session)).isEqualTo("no answer to heartbeat within 1 s");
+	}
+
+	@Test
+	public void heartbeatWaitingForACommandOfTheTestIsNotAProblem() {
+		elapse(30);
+		driver.answer("getWindowHandle", args -> {
+			// the test sends a command meanwhile, the heartbeat waits for it
+			latency.commandStarted(nanos.get());
+			latency.commandEnded(nanos.get());
+			return sleep(3_000);
+		});
+
+		assertThat(watchdog.check(session)).isNull();
+	}
+
+	@Test
+	public void driftIsAProblemOnlyWhenItLasts() {
+		record(20, 10);
+		record(31, 100);
+		assertThat(latency.getDriftFactor()).isEqualTo(10);
+
+		assertThat(watchdog.check(session)).isNull();
+		assertThat(watchdog.check(session)).isNull();
+		// back to normal in between
+		record(31, 10);
+		assertThat(watchdog.check(session)).isNull();
+		record(31, 100);
+		assertThat(watchdog.check(session)).isNull();
+		assertThat(watchdog.check(session)).isNull();
+		assertThat(watchdog.check(session)).startsWith("latency drifted: ");
+	}
+
+	private void elapse(final long seconds) {
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+	}
+
+	private void record(final int commands, final long roundTripMillis) {
+		for (int i = 0; i < commands; i++) {
+			latency.commandStarted(nanos.get());
+			nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(roundTripMillis));
+			latency.commandEnded(nanos.get());
+			latency.record(roundTripMillis);
+		}
+	}
+
+	private static Object sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "window";
+	}
+}
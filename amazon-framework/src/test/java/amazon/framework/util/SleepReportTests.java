@@ -0,0 +1,39 @@
+package amazon.framework.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aggregation of the explicit sleeps by {@link SleepReport}.
+ */
+public class SleepReportTests {
+
+	@After
+	public void tearDown() {
+		SleepReport.reset();
+	}
+
+	@Test
+	public void sleepsAreReportedAtTheirCaller() {
+		WebElementHelper.waitExplicitly(0);
+
+		assertThat(SleepReport.getCallSites()).hasSize(1);
+		assertThat(SleepReport.getCallSites().keySet().iterator().next())
+				.startsWith(SleepReportTests.class.getName() + ".sleepsAreReportedAtTheirCaller(");
+	}
+
+	@Test
+	public void timeSavedWhenThePageWasStableEarlier() {
+		SleepReport.record("site", 5_000, 1_000);
+		SleepReport.record("site", 5_000, -1);
+		SleepReport.record("site", 2_000, 0);
+
+		final SleepReport.CallSite callSite = SleepReport.getCallSites().get("site");
+		assertThat(callSite.getCount()).isEqualTo(3);
+		assertThat(callSite.getTotalMillis()).isEqualTo(12_000);
+		assertThat(callSite.getStableEarlier()).isEqualTo(2);
+		assertThat(callSite.getSavableMillis()).isEqualTo(6_000);
+	}
+}
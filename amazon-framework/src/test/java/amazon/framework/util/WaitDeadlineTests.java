@@ -0,0 +1,63 @@
+package amazon.framework.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Nesting of the {@link WaitDeadline}s of a session and waits cut to their budget.
+ */
+public class WaitDeadlineTests {
+
+	@Before
+	public void setUp() {
+		DriverSessionHolder.setDriverSession(new DriverSession(null, "deadline-tests", null));
+	}
+
+	@After
+	public void tearDown() {
+		DriverSessionHolder.reset();
+	}
+
+	@Test
+	public void nestedStepNeverOutlivesTheStepAroundIt() {
+		try (WaitDeadline outer = WaitDeadline.start("outer", 10)) {
+			try (WaitDeadline inner = WaitDeadline.start("inner", 100)) {
+				assertThat(WaitDeadline.current()).isSameAs(inner);
+				assertThat(inner.getRemaining()).isLessThanOrEqualTo(Duration.ofSeconds(10));
+				assertThat(inner.getBindingStep()).isSameAs(outer);
+				assertThat(WaitDeadline.remainingSeconds(60)).isLessThanOrEqualTo(10);
+			}
+			try (WaitDeadline inner = WaitDeadline.start("inner", 1)) {
+				assertThat(inner.getBindingStep()).isSameAs(inner);
+			}
+			assertThat(WaitDeadline.current()).isSameAs(outer);
+		}
+		assertThat(WaitDeadline.current()).isNull();
+		assertThat(WaitDeadline.remainingSeconds(60)).isEqualTo(60);
+	}
+
+	@Test
+	public void waitFailsFastOnceTheBudgetIsExhausted() {
+		try (WaitDeadline step = WaitDeadline.start("exhausted", 0)) {
+			final AdaptiveWait<String> wait = new AdaptiveWait<>("input").withTimeout(Duration.ofSeconds(60))
+					.withDeadline(step);
+			assertThat(wait.getTimeout()).isEqualTo(Duration.ZERO);
+
+			final long start = System.nanoTime();
+			assertThatThrownBy(() -> wait.until(input -> false)).isInstanceOf(TimeoutException.class)
+					.hasMessageContaining("with 1 polls, budget of step 'exhausted' (0 s) exhausted");
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+			// a condition which already holds still succeeds
+			final Boolean holds = wait.until(input -> true);
+			assertThat(holds).isTrue();
+		}
+	}
+}
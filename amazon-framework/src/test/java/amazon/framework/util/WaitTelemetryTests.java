@@ -0,0 +1,103 @@
+package amazon.framework.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tuning of the timeouts of {@link LoadingConstants} from the waits recorded by {@link WaitTelemetry}.
+ */
+public class WaitTelemetryTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path history;
+
+	@Before
+	public void setUp() {
+		history = folder.getRoot().toPath().resolve("wait-history.csv");
+		System.setProperty(WaitTelemetry.HISTORY_PROPERTY, history.toString());
+		WaitTelemetry.reset();
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(WaitTelemetry.HISTORY_PROPERTY);
+		WaitTelemetry.reset();
+	}
+
+	@Test
+	public void timeoutIsNominalUntilEnoughWaitsAreKnown() {
+		record(WaitCategory.RENDER, LoadingConstants.AUTOTUNE_MIN_SAMPLES - 1, 2_000);
+
+		assertThat(LoadingConstants.timeout(WaitCategory.RENDER)).isEqualTo(LoadingConstants.RENDER_ELEMENT);
+	}
+
+	@Test
+	public void timeoutIsTunedFromP99AndNeverLongerThanNominal() {
+		record(WaitCategory.RENDER, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 5_000);
+		// 3 x 5 s
+		assertThat(LoadingConstants.timeout(WaitCategory.RENDER)).isEqualTo(15);
+		assertThat(LoadingConstants.pollingInterval(WaitCategory.RENDER)).isEqualTo(Duration.ofMillis(500));
+
+		record(WaitCategory.UPDATE_BUTTON, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 100);
+		assertThat(LoadingConstants.timeout(WaitCategory.UPDATE_BUTTON))
+				.isEqualTo(LoadingConstants.AUTOTUNE_MIN_TIMEOUT);
+		assertThat(LoadingConstants.pollingInterval(WaitCategory.UPDATE_BUTTON)).isEqualTo(Duration.ofMillis(50));
+
+		record(WaitCategory.LOADING, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 100_000);
+		assertThat(LoadingConstants.timeout(WaitCategory.LOADING)).isEqualTo(LoadingConstants.LOADING_TIMEOUT);
+
+		record(WaitCategory.OTHER, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 100);
+		assertThat(LoadingConstants.timeout(WaitCategory.OTHER)).isEqualTo(WaitCategory.OTHER.getNominalTimeout());
+	}
+
+	@Test
+	public void timeoutsOfTheRunBringTheNominalTimeoutBack() {
+		record(WaitCategory.ELEMENT_EXIST, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 5_000);
+		for (int i = 0; i < 5; i++) {
+			WaitTelemetry.record(WaitCategory.ELEMENT_EXIST, 15_000, false);
+		}
+		assertThat(LoadingConstants.timeout(WaitCategory.ELEMENT_EXIST)).isEqualTo(15);
+
+		// more than 5% of the waits timed out
+		WaitTelemetry.record(WaitCategory.ELEMENT_EXIST, 15_000, false);
+		assertThat(LoadingConstants.timeout(WaitCategory.ELEMENT_EXIST)).isEqualTo(LoadingConstants.LOADING_TIMEOUT);
+		// the other categories keep their tuned timeout
+		record(WaitCategory.DOCUMENT_READY, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 100);
+		assertThat(LoadingConstants.timeout(WaitCategory.DOCUMENT_READY))
+				.isEqualTo(LoadingConstants.AUTOTUNE_MIN_TIMEOUT);
+	}
+
+	@Test
+	public void historyIsKeptAcrossRuns() throws IOException {
+		record(WaitCategory.PAGE_LOAD, LoadingConstants.AUTOTUNE_MIN_SAMPLES, 4_000);
+		WaitTelemetry.record(WaitCategory.PAGE_LOAD, 60_000, false);
+		WaitTelemetry.save();
+		assertThat(Files.readAllLines(history)).hasSize(LoadingConstants.AUTOTUNE_MIN_SAMPLES + 1)
+				.endsWith("PAGE_LOAD,60000,false");
+
+		// next run
+		WaitTelemetry.reset();
+		assertThat(WaitTelemetry.getSuccessCount(WaitCategory.PAGE_LOAD))
+				.isEqualTo(LoadingConstants.AUTOTUNE_MIN_SAMPLES);
+		assertThat(WaitTelemetry.getPercentile(WaitCategory.PAGE_LOAD, 99)).isEqualTo(4_000);
+		assertThat(LoadingConstants.timeout(WaitCategory.PAGE_LOAD)).isEqualTo(12);
+	}
+
+	private static void record(final WaitCategory category, final int count, final long millis) {
+		for (int i = 0; i < count; i++) {
+			WaitTelemetry.record(category, millis, true);
+		}
+	}
+}
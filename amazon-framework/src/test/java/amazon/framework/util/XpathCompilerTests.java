@@ -0,0 +1,74 @@
+package amazon.framework.util;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Corpus of the XPath compiled by {@link XpathCompiler}: each XPath with its CSS equivalent, or null when it must stay
+ * an XPath.
+ */
+public class XpathCompilerTests {
+
+	private static final String[][] CORPUS = {
+			// steps
+			{ "//div", "div" },
+			{ "//*", "*" },
+			{ "//div/span", "div > span" },
+			{ "//div//span", "div span" },
+			{ "//ul/li/*", "ul > li > *" },
+			// attributes
+			{ "//*[@class='item item_email']", "[class=\"item item_email\"]" },
+			{ "//input[@id='twotabsearchtextbox']", "input[id=\"twotabsearchtextbox\"]" },
+			{ "//a[@href]", "a[href]" },
+			{ "//div[@data-index = \"3\"]", "div[data-index=\"3\"]" },
+			{ "//span[@title=\"I'm \\ here\"]", "span[title=\"I'm \\\\ here\"]" },
+			{ "//span[@title='say \"hi\"']", "span[title=\"say \\\"hi\\\"\"]" },
+			{ "//div[contains(@class,'s-main-slot s-result-list s-search-results')]/div[contains(@class,'s-asin')]",
+					"div[class*=\"s-main-slot s-result-list s-search-results\"] > div[class*=\"s-asin\"]" },
+			{ "//a[starts-with(@href, '/dp/')]", "a[href^=\"/dp/\"]" },
+			{ "//div[@role='list' and contains(@class,'a')][@data-x]", "div[role=\"list\"][class*=\"a\"][data-x]" },
+			{ "//li[not(@aria-hidden)]", "li:not([aria-hidden])" },
+			{ "//li[not(contains(@class, 'disabled'))]", "li:not([class*=\"disabled\"])" },
+			// positions
+			{ "//ul/li[2]", "ul > li:nth-of-type(2)" },
+			{ "//ul/*[1]", "ul > :nth-child(1)" },
+			{ "//tr/td[last()]", "tr > td:last-of-type" },
+			{ "//ul/li[1][@class='a']", "ul > li:nth-of-type(1)[class=\"a\"]" },
+			// not compilable
+			{ "//ul/li[@class='a'][1]", null },
+			{ "//body//*[contains(text(),'error')]", null },
+			{ "//span[contains(., 'by')]", null },
+			{ "//div[@class='a-row' and .//span[contains(., 'by')]]", null },
+			{ "//*[@id=\"filters\"]/../..//span", null },
+			{ "//div[@a='x' or @b='y']", null },
+			{ "//input[@type='text']", null },
+			{ "//div[contains(@class, '')]", null },
+			{ "//div[@a!='x']", null },
+			{ "//div/following-sibling::span", null },
+			{ "(//div)[1]", null },
+			{ "//div | //span", null },
+			{ "/html/body", null },
+			{ ".//div", null },
+			{ "..", null },
+			{ "//div/", null },
+			{ "//svg:path", null },
+			{ "//div[not(@a and @b)]", null },
+	};
+
+	@Test
+	public void corpus() {
+		for (String[] entry : CORPUS) {
+			assertThat(XpathCompiler.toCss(entry[0])).as(entry[0]).isEqualTo(entry[1]);
+		}
+	}
+
+	@Test
+	public void onlyCompilableXpathLocatorsAreReplaced() {
+		assertThat(XpathCompiler.optimize(By.xpath("//div/span"))).isEqualTo(By.cssSelector("div > span"));
+		assertThat(XpathCompiler.optimize(By.xpath("//span[contains(., 'by')]")))
+				.isEqualTo(By.xpath("//span[contains(., 'by')]"));
+		assertThat(XpathCompiler.optimize(By.linkText("Next"))).isEqualTo(By.linkText("Next"));
+	}
+}
@@ -0,0 +1,61 @@
+package amazon.framework.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput of the construction of locators by {@link XpathHelper} and {@link XpathTemplate}, against the
+ * String.format construction they replaced. Not a unit test, run the main method: warm-up rounds then measured
+ * rounds, in operations per millisecond. JMH is not available to the build, the rounds follow its warm-up/measurement
+ * structure.
+ */
+public class XpathHelperBenchmark {
+
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 5;
+	private static final long ROUND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private static final String[] VALUES = { "apple", "I'm here", "Publication Date", "English" };
+	private static final XpathTemplate ITEM_NAME =
+			XpathTemplate.compile("//span[contains(@class,'item_name') and contains(., %s)]");
+
+	// prevents the JIT from removing the constructions
+	private static int sink;
+
+	public static void main(String[] args) {
+		run("String.format containsIgnoreCase", i -> String.format(
+				"contains(translate(.,'ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÜÉÈÊÀÁÂÒÓÔÙÚÛÇÅÏÕÑŒ',"
+						+ "'abcdefghijklmnopqrstuvwxyzäöüéèêàáâòóôùúûçåïõñœ'),'%s')",
+				VALUES[i & 3].toLowerCase()));
+		run("XpathHelper.containsIgnoreCase", i -> XpathHelper.containsIgnoreCase(VALUES[i & 3]));
+		run("XpathHelper.contains (2 items)", i -> XpathHelper.contains(VALUES[i & 3], VALUES[(i + 1) & 3]));
+		run("XpathTemplate.format", i -> ITEM_NAME.format(VALUES[i & 3]));
+		run("XpathTemplate.locator (cached)", i -> ITEM_NAME.locator(VALUES[i & 3]).toString());
+		System.out.println(sink == 42 ? "" : "done");
+	}
+
+	private static void run(final String name, final IntFunction<String> construction) {
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			round(construction);
+		}
+		double total = 0;
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			total += round(construction);
+		}
+		System.out.println(String.format("%-40s %,12.0f ops/ms", name, total / MEASURED_ROUNDS));
+	}
+
+	private static double round(final IntFunction<String> construction) {
+		final long start = System.nanoTime();
+		long operations = 0;
+		long elapsed;
+		do {
+			for (int i = 0; i < 1_000; i++) {
+				sink += construction.apply(i).length();
+			}
+			operations += 1_000;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < ROUND_NANOS);
+		return operations / (elapsed / 1_000_000.0);
+	}
+}
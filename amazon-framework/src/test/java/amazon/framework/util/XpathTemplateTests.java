@@ -0,0 +1,36 @@
+package amazon.framework.util;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Literals and locators of {@link XpathTemplate}, and the expressions built with them by {@link XpathHelper}.
+ */
+public class XpathTemplateTests {
+
+	@Test
+	public void literalsAreQuotedWithTheQuoteTheyDoNotContain() {
+		assertThat(XpathTemplate.literal("apple")).isEqualTo("'apple'");
+		assertThat(XpathTemplate.literal("I'm")).isEqualTo("\"I'm\"");
+		assertThat(XpathTemplate.literal("say \"hi\"")).isEqualTo("'say \"hi\"'");
+		assertThat(XpathTemplate.literal("I'm \"in\"")).isEqualTo("concat('I',\"'\",'m \"in\"')");
+		assertThat(XpathTemplate.literal("'\"'")).isEqualTo("concat(\"'\",'\"',\"'\")");
+	}
+
+	@Test
+	public void locatorsAreBuiltOncePerValues() {
+		final XpathTemplate template = XpathTemplate.compile("//span[contains(@class,'item_name') and contains(., %s)]");
+
+		assertThat(template.format("I'm")).isEqualTo("//span[contains(@class,'item_name') and contains(., \"I'm\")]");
+		assertThat(template.locator("a")).isSameAs(template.locator("a"));
+		assertThat(template.locator("b")).isNotEqualTo(template.locator("a"));
+	}
+
+	@Test
+	public void helperSkipsEmptyItems() {
+		assertThat(XpathHelper.contains("a", null, "", "I'm")).isEqualTo("contains(., 'a') and contains(., \"I'm\")");
+		assertThat(XpathHelper.startsWith("contains")).isEqualTo("starts-with(., 'contains')");
+		assertThat(XpathHelper.containsIgnoreCase("AB")).endsWith("),'ab')");
+	}
+}
@@ -1,14 +1,16 @@
 package amazon.pageobject.pages;
 
 import amazon.framework.core.AbstractWebDriverTestCase;
+import amazon.framework.core.LaunchProfile;
+import amazon.framework.core.WebDriverPool;
 import amazon.framework.util.ButtonWidget;
 import amazon.framework.util.DriverSessionHolder;
+import amazon.framework.util.WebdriverHelper;
 import amazon.pageobject.login.Credentials;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriverException;
 
 import static amazon.framework.util.DriverSessionHolder.getDriver;
 
@@ -42,20 +44,25 @@ public class AbstractJavashopWebDriverTestCase extends AbstractWebDriverTestCase
 				// Quit current driver, current browser does not match test needs
 				LOGGER.info("Currently runnig webdriver does not match requested browser, quit current driver");
 				quitDriver();
+			} else if (!DriverSessionHolder.getDriverSession().isHealthy()) {
+				// flagged by the SessionWatchdog, recycle it now rather than in the middle of the test
+				LOGGER.info("Currently running webdriver is unhealthy, quit current driver: "
+						+ DriverSessionHolder.getDriverSession().getHealthProblem());
+				quitDriver();
 			} else {
-				try {
-					LOGGER.info("Currently running webdriver is matching test needs, try to reuse");
-					getDriver().manage().deleteAllCookies();
-					getDriver().navigate().refresh();
-				} catch (WebDriverException we) {
-					LOGGER.warn("Refreshing failed. Unexpected state, quit current driver", we);
+				LOGGER.info("Currently running webdriver is matching test needs, try to reuse");
+				if (!WebdriverHelper.resetForReuse(getDriver())) {
+					LOGGER.warn("Unexpected state, quit current driver");
 					quitDriver();
 				}
 			}
 		}
 		if (!DriverSessionHolder.hasDriverSessionSet()) {
 			super.getWebDriver(driverKind);
-			getDriver().manage().window().maximize();
+			// the browsers of the pool got their window when started
+			if (!WebDriverPool.getInstance().isEnabled()) {
+				LaunchProfile.current().applyWindow(getDriver());
+			}
 		}
 		return getDriver();
 	}
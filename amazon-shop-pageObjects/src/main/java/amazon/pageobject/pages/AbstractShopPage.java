@@ -1,9 +1,15 @@
 package amazon.pageobject.pages;
 
+import amazon.framework.util.BudgetedElementLocatorFactory;
 import amazon.framework.util.ButtonWidget;
 import amazon.framework.util.LoadingConstants;
+import amazon.framework.util.NetworkIdleTracker;
+import amazon.framework.util.SelfHealingElement;
+import amazon.framework.util.WaitCategory;
+import amazon.framework.util.WaitDeadline;
 import amazon.framework.util.WebElementHelper;
 import amazon.framework.util.WebdriverHelper;
+import amazon.framework.util.XpathTemplate;
 import com.google.common.base.Function;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -11,11 +17,7 @@ import org.junit.Assert;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.pagefactory.AjaxElementLocatorFactory;
-import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.time.Duration;
 import java.util.List;
 
 import static amazon.framework.util.DriverSessionHolder.getDriver;
@@ -26,6 +28,10 @@ public abstract class AbstractShopPage {
 
 	protected static String productName;
 	private static final String XPATH_SELECTOR_TIME = "//div[contains(@class, 'timeslot_time') and contains(.,'%s')]";
+	private static final XpathTemplate XPATH_LOGGED_USER =
+			XpathTemplate.compile("//span[contains(@class,'item_name') and contains(., %s)]");
+	private static final By XPATH_ERROR_TEXT = By.xpath("//body//*[contains(text(),'error')]");
+	private static final By XPATH_LOGGED_EMAIL = By.xpath("//*[@class='item item_email']");
 	private static final String CSS_SET_MAIN_TICKET_BUTTON = ".print_button_container_for_expand_panel .button.setAsMainTicket a";
 	private static final String CSS_SET_BENEFICIARY_BUTTON = ".print_button_container_for_expand_panel .button.ticket_set_beneficiary a";
 
@@ -37,24 +43,29 @@ public abstract class AbstractShopPage {
 	}
 	// This needs to be below timeout value on grids, 2 minutes is already a
 	// lot...
-	public static final int TIMEOUT_SEC_PAGE_LOAD = 60;
+	public static final int TIMEOUT_SEC_PAGE_LOAD = (int) LoadingConstants.PAGE_LOAD;
 
 	private static final String ERROR_PAGE_TITLE = "Error Page";
 
 	protected AbstractShopPage() {
-		waitForPageReady();
-		AjaxElementLocatorFactory ajaxFactory = new AjaxElementLocatorFactory(getDriver(), 60);
-		PageFactory.initElements(ajaxFactory, this);
-		waitForPageLoad();
-		WebElementHelper.printCurrentURL();
+		loadPage();
 	}
 
 	protected AbstractShopPage(String productName) {
 		AbstractShopPage.productName = productName;
-		waitForPageReady();
-		AjaxElementLocatorFactory ajaxFactory = new AjaxElementLocatorFactory(getDriver(), 60);
-		PageFactory.initElements(ajaxFactory, this);
-		waitForPageLoad();
+		loadPage();
+	}
+
+	/**
+	 * All the waits of the page construction share one budget, see {@link WaitDeadline}.
+	 */
+	private void loadPage() {
+		try (WaitDeadline step = WaitDeadline.startStep("Load " + getClass().getSimpleName())) {
+			waitForPageReady();
+			PageFactory.initElements(
+					new SelfHealingElement.Decorator(new BudgetedElementLocatorFactory(getDriver(), 60)), this);
+			waitForPageLoad();
+		}
 		WebElementHelper.printCurrentURL();
 	}
 
@@ -69,7 +80,7 @@ public abstract class AbstractShopPage {
 	protected void waitForPageReady() {
 		final CurrentPagePredicate predicate = new CurrentPagePredicate(getUrlRegex(), getPageTitleRegexp());
 		try {
-			new WebDriverWait(getDriver(), TIMEOUT_SEC_PAGE_LOAD).until(predicate);
+			WebdriverHelper.newWait(WaitCategory.PAGE_LOAD).ignoring(NotFoundException.class).until(predicate);
 			releaseProductName();
 		} catch (TimeoutException te) {
 			throw new TimeoutException(predicate.getPredicateLog(), te);
@@ -82,21 +93,18 @@ public abstract class AbstractShopPage {
 	protected abstract String getPageTitleRegexp();
 
 	/**
-	 * Wait for the mask disappear.
+	 * Wait for the please wait dialog to disappear, for the page to be idle (see
+	 * {@link NetworkIdleTracker}), then for the mask to disappear, all within the same budget.
 	 *
 	 * @param timeoutInSeconds : time to wait
 	 */
 	protected void waitForLoading(int timeoutInSeconds) {
-		WebElementHelper.waitForElementInvisible(By.cssSelector("pleaseWaitDialog"), LoadingConstants.LOADING_TIMEOUT);
-		final FluentWait<WebDriver> wait = new FluentWait<>(getDriver())
-				.withTimeout(Duration.ofSeconds(timeoutInSeconds)).pollingEvery(Duration.ofSeconds(5))
-				.ignoring(StaleElementReferenceException.class);
-		wait.until(new Function<WebDriver, Boolean>() {
-			@Override
-			public Boolean apply(final WebDriver driver) {
-				return WebElementHelper.findElements(By.cssSelector(".ui-widget-overlay")).isEmpty();
-			}
-		});
+		try (WaitDeadline step = WaitDeadline.start("Loading",
+				Math.max(timeoutInSeconds, LoadingConstants.LOADING_TIMEOUT))) {
+			WebElementHelper.waitForElementInvisible(By.id("pleaseWaitDialog"), LoadingConstants.LOADING_TIMEOUT);
+			NetworkIdleTracker.waitForIdle(LoadingConstants.NETWORK_QUIET_MILLIS, timeoutInSeconds);
+			WebElementHelper.waitForElementInvisible(By.cssSelector(".ui-widget-overlay"), timeoutInSeconds);
+		}
 	}
 
 	/**
@@ -118,8 +126,7 @@ public abstract class AbstractShopPage {
 	}
 
 	protected void verifyTextPresentOnPage(boolean present) {
-		Assert.assertEquals(present,
-				WebElementHelper.isElementExisting(By.xpath("//body//*[contains(text(),'error')]")));
+		Assert.assertEquals(present, WebElementHelper.isElementExisting(XPATH_ERROR_TEXT));
 
 	}
 
@@ -136,8 +143,7 @@ public abstract class AbstractShopPage {
 
 	public void verifyLoggedIn(String loginUser, boolean isLogged) {
 		logger.info(String.format("Verify [%s] %s in.", loginUser, isLogged ? "logged" : "un-logged"));
-		List<WebElement> element = WebElementHelper
-				.findElements(By.xpath("//span[contains(@class,'item_name') and contains(., '" + loginUser + "')]"));
+		List<WebElement> element = WebElementHelper.findElements(XPATH_LOGGED_USER.locator(loginUser));
 
 		if (isLogged) {
 			assertThat(element).isNotEmpty();
@@ -147,7 +153,7 @@ public abstract class AbstractShopPage {
 	}
 
 	public boolean isUserLoggedIn() {
-		List<WebElement> element = WebElementHelper.findElements(By.xpath("//*[@class='item item_email']"));
+		List<WebElement> element = WebElementHelper.findElements(XPATH_LOGGED_EMAIL);
 		return element.size() > 0;
 	}
 
@@ -164,9 +170,10 @@ public abstract class AbstractShopPage {
 		@SuppressWarnings("boxing")
 		@Override
 		public Boolean apply(final WebDriver input) {
-			final String currentUrl = getDriver().getCurrentUrl();
+			final String[] urlAndTitle = WebdriverHelper.getUrlAndTitle(getDriver());
+			final String currentUrl = urlAndTitle[0];
 			if (currentUrl.matches(urlRegexp)) {
-				String title = getDriver().getTitle();
+				String title = urlAndTitle[1];
 				String[] titleArray = title.split("\\|");
 				if (titleArray[titleArray.length - 1].trim().matches(ERROR_PAGE_TITLE)) {
 					throw new IllegalStateException("Unexpected error page, stop test. Was expecting : " + titleRegexp);
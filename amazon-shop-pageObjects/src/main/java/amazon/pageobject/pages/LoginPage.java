@@ -1,7 +1,9 @@
 package amazon.pageobject.pages;
 
+import amazon.framework.util.FormFill;
 import amazon.framework.util.WebElementHelper;
 import amazon.pageobject.login.Credentials;
+import com.google.common.collect.ImmutableMap;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openqa.selenium.By;
@@ -16,9 +18,9 @@ public class LoginPage extends AbstractShopPage {
 
     public void login(Credentials credentials) {
         logger.info(String.format("B2C login : %s/%s", credentials.getLogin(), credentials.getPassword()));
-        WebElementHelper.sendKeysAndCheckLocated(usernameLocator, credentials.getLogin());
+        FormFill.fill(ImmutableMap.of(usernameLocator, credentials.getLogin()));
         WebElementHelper.click(continueButtonLocator);
-        WebElementHelper.sendKeysAndCheckLocated(passwordInputLocator, credentials.getPassword());
+        FormFill.fill(ImmutableMap.of(passwordInputLocator, credentials.getPassword()));
         WebElementHelper.click(submitButtonLocator);
         waitForLoading();
     }
@@ -1,14 +1,16 @@
 package amazon.pageobject.pages;
 
 import amazon.framework.util.DateUtils;
+import amazon.framework.util.ElementSnapshot;
 import amazon.framework.util.JSComponentHelper;
+import amazon.framework.util.SelfHealingElement;
 import amazon.framework.util.WebElementHelper;
+import amazon.framework.util.XpathTemplate;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.junit.Assert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.Select;
 
 import java.util.*;
 
@@ -20,6 +22,8 @@ public class ShopPage extends AbstractShopPage {
     private static final By productNameInput = By.id("twotabsearchtextbox");
     private static final By searchButton = By.id("nav-search-submit-button");
     private static final By sortByTypeDropdownBox = By.id("s-result-sort-select");
+    private static final By searchResults = By.xpath("//div[contains(@class,'s-main-slot s-result-list s-search-results')]/div[contains(@class,'s-asin')]");
+    private static final XpathTemplate languageFilter = XpathTemplate.compile("//*[@id=\"filters\"]/../..//span[contains(., %s)]");
 
     @Override
     protected String getUrlRegex() {
@@ -34,12 +38,13 @@ public class ShopPage extends AbstractShopPage {
     public void selectProductType(final String type) {
         logger.info(String.format("Select product type: %s", type));
         WebElementHelper.click(searchByTypeDropdownBox);
-        new Select(WebElementHelper.waitAndGetElement(searchByTypeDropdownBox)).selectByVisibleText(type);
+        WebElementHelper.selectByVisibleText(searchByTypeDropdownBox, type);
     }
 
     public void inputProductName(final String productName) {
         logger.info(String.format("Enter product name: %s", productName));
-        WebElementHelper.sendKeysAndCheck(WebElementHelper.waitForElementVisible(productNameInput), productName);
+        final WebElement input = WebElementHelper.waitForElementVisible(productNameInput);
+        WebElementHelper.sendKeysAndCheck(SelfHealingElement.of(productNameInput, input), productName);
     }
 
     public void clickOnSearchButton() {
@@ -49,8 +54,8 @@ public class ShopPage extends AbstractShopPage {
 
     public void filterByLanguage(final String language) {
         logger.info(String.format("Filer by language: %s", language));
-        JSComponentHelper.scrollToElement(By.xpath(String.format("//*[@id=\"filters\"]/../..//span[contains(., '%s')]", language)));
-        JSComponentHelper.click(By.xpath(String.format("//*[@id=\"filters\"]/../..//span[contains(., '%s')]", language)));
+        JSComponentHelper.scrollToElement(languageFilter.locator(language));
+        JSComponentHelper.click(languageFilter.locator(language));
     }
 
     public void searchProduct(final String type, final String productName, final String language) {
@@ -59,10 +64,11 @@ public class ShopPage extends AbstractShopPage {
         clickOnSearchButton();
         waitForLoading();
         filterByLanguage(language);
+        waitForLoading();
     }
 
     public int verifyResultNumber() {
-        int count = WebElementHelper.findElements(By.xpath("//div[contains(@class,'s-main-slot s-result-list s-search-results')]/div[contains(@class,'s-asin')]")).size();
+        int count = WebElementHelper.findElements(searchResults).size();
         logger.info(String.format("No. of result per page: %s", count));
         return count;
     }
@@ -70,7 +76,7 @@ public class ShopPage extends AbstractShopPage {
     public void sortBy(final String type) {
         logger.info(String.format("Select sort by: %s", type));
         WebElementHelper.click(sortByTypeDropdownBox);
-        new Select(WebElementHelper.waitAndGetElement(sortByTypeDropdownBox)).selectByVisibleText(type);
+        WebElementHelper.selectByVisibleText(sortByTypeDropdownBox, type);
         waitForLoading();
     }
 
@@ -79,8 +85,7 @@ public class ShopPage extends AbstractShopPage {
         List<WebElement> elements = WebElementHelper.waitAndGetElements(By.xpath("//div[@class='a-row' and .//span[contains(., 'by')]]"));
 
         List<String> listByString = new ArrayList<>();
-        for(WebElement e : elements) {
-            String productLineInfo = e.getText().trim();
+        for(String productLineInfo : ElementSnapshot.texts(elements)) {
             String publicationDateItem = productLineInfo.substring(productLineInfo.lastIndexOf(" | ")+1).replace("|", "").trim();
             listByString.add(publicationDateItem);
         }
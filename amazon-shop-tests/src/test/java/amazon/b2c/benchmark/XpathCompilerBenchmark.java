@@ -0,0 +1,41 @@
+package amazon.b2c.benchmark;
+
+import amazon.framework.core.WebDriverSuppliers.SingleWebDriver;
+import amazon.framework.util.XpathCompiler;
+import amazon.pageobject.pages.AbstractJavashopWebDriverTestCase;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static amazon.framework.util.DriverSessionHolder.getDriver;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * In-browser evaluation time of the XPath locators of the page objects against their CSS compilation, on a result list.
+ * Not part of the integration tests, run it with: mvn verify -Dit.test=XpathCompilerBenchmark
+ */
+@RunWith(Theories.class)
+public class XpathCompilerBenchmark extends AbstractJavashopWebDriverTestCase {
+
+    private static final String RESULT_LIST = "https://www.amazon.com/s?k=apple&i=stripbooks";
+    private static final int ITERATIONS = 1_000;
+
+    private static final String[] XPATHS = {
+            "//div[contains(@class,'s-main-slot s-result-list s-search-results')]/div[contains(@class,'s-asin')]",
+            "//*[@class='item item_email']",
+            "//div[@data-component-type='s-search-result']//h2/a[starts-with(@href, '/')]",
+            "//div[contains(@class,'s-result-item')][@data-asin]//span[not(@aria-hidden)]",
+    };
+
+    @Theory
+    public void compiledCssMatchesTheSameElements(@SingleWebDriver final WebDriverKind browser) {
+        getWebDriver(browser);
+        getDriver().navigate().to(RESULT_LIST);
+
+        for (String xpath : XPATHS) {
+            final XpathCompiler.Benchmark benchmark = XpathCompiler.benchmark(getDriver(), xpath, ITERATIONS);
+            LOGGER.info("[XPATH_BENCHMARK] " + benchmark);
+            assertThat(benchmark.isSameMatches()).as(benchmark.toString()).isTrue();
+        }
+    }
+}